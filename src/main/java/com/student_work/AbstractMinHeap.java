@@ -50,6 +50,23 @@ public abstract class AbstractMinHeap<T> {
      */
     public abstract T delMin();
 
+    /**
+     * Removes and returns the minimum element and inserts x in the same step.
+     * The minimum is removed before x goes in, so the old minimum is returned
+     * even when x is smaller.
+     * The default is delMin followed by insert; array-backed heaps override
+     * it to write x over the root and sink it once.
+     *
+     * @param x the element to insert
+     * @return the minimum element that was removed
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public T replaceMin(T x) {
+        T min = delMin();
+        insert(x);
+        return min;
+    }
+
     /**
      * Restores the heap property by moving the element at position k upward
      * in the heap tree (toward the root). Used after insertion.
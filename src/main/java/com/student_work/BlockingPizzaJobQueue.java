@@ -0,0 +1,345 @@
+package com.student_work;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe blocking queue of {@link PizzaJob}s that hands out the job
+ * with the shortest cook time, for order intake threads feeding oven
+ * workers.
+ *
+ * <p>Producers and consumers do not share a lock. {@link #put} appends the
+ * job to a lock-free intake list and bumps a counter. Only the producer
+ * that takes the counter from 0 to 1 locks, to wake one sleeping consumer,
+ * so thousands of submitters never queue up behind each other while the
+ * ovens are busy. Consumers hold the lock, move the whole intake into a
+ * {@link KeyedLongHeap} keyed on cook time with one {@code insertAll}, and
+ * take from the heap. Jobs come out as the same instances that were put in,
+ * subclass and all. A consumer that leaves jobs behind wakes the next one. This is the
+ * same signalling scheme as {@code LinkedBlockingQueue}.</p>
+ *
+ * <p>A bounded queue gives producers backpressure: {@link #put} blocks and
+ * {@link #offer} fails while {@code capacity} jobs are queued. All waiting
+ * uses {@code java.util.concurrent} locks rather than {@code synchronized},
+ * so a blocked virtual thread unmounts from its carrier instead of pinning
+ * it.</p>
+ *
+ * <p>The {@link AbstractMinHeap} methods do not block: {@code insert} fails
+ * with {@code IllegalStateException} when the queue is full, and
+ * {@code min}/{@code delMin} when it is empty.</p>
+ */
+public class BlockingPizzaJobQueue extends AbstractMinHeap<PizzaJob> {
+
+    private final KeyedLongHeap<PizzaJob> heap = new KeyedLongHeap<>(PizzaJob::getCookTime);   // guarded by lock
+    private final ArrayList<PizzaJob> batch = new ArrayList<>();                               // guarded by lock
+    private final ConcurrentLinkedQueue<PizzaJob> intake = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final AtomicInteger count = new AtomicInteger();   // jobs in intake and heap
+    private final Semaphore space;                              // free slots, or null if unbounded
+
+    /**
+     * Creates an unbounded queue.
+     */
+    public BlockingPizzaJobQueue() {
+        space = null;
+    }
+
+    /**
+     * Creates a queue that holds at most {@code capacity} jobs.
+     *
+     * @param capacity the most jobs that can be queued at once
+     * @throws IllegalArgumentException if {@code capacity < 1}
+     */
+    public BlockingPizzaJobQueue(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        space = new Semaphore(capacity);
+    }
+
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count.get() == 0;
+    }
+
+    /**
+     * Returns how many more jobs can be queued without blocking.
+     *
+     * @return the free capacity, or {@code Integer.MAX_VALUE} if unbounded
+     */
+    public int remainingCapacity() {
+        return space == null ? Integer.MAX_VALUE : space.availablePermits();
+    }
+
+    /**
+     * Queues a job, waiting for space if the queue is bounded and full.
+     *
+     * @param job the job to queue
+     * @throws InterruptedException     if interrupted while waiting
+     * @throws IllegalArgumentException if {@code job} is null
+     */
+    public void put(PizzaJob job) throws InterruptedException {
+        if (job == null) throw new IllegalArgumentException("Cannot insert null");
+        if (space != null) space.acquire();
+        enqueue(job);
+    }
+
+    /**
+     * Queues a job if there is space right now.
+     *
+     * @param job the job to queue
+     * @return true if the job was queued, false if the queue is full
+     * @throws IllegalArgumentException if {@code job} is null
+     */
+    public boolean offer(PizzaJob job) {
+        if (job == null) throw new IllegalArgumentException("Cannot insert null");
+        if (space != null && !space.tryAcquire()) return false;
+        enqueue(job);
+        return true;
+    }
+
+    /**
+     * Queues a job, waiting up to {@code timeout} for space.
+     *
+     * @param job     the job to queue
+     * @param timeout how long to wait
+     * @param unit    the unit of {@code timeout}
+     * @return true if the job was queued, false if the wait timed out
+     * @throws InterruptedException     if interrupted while waiting
+     * @throws IllegalArgumentException if {@code job} is null
+     */
+    public boolean offer(PizzaJob job, long timeout, TimeUnit unit) throws InterruptedException {
+        if (job == null) throw new IllegalArgumentException("Cannot insert null");
+        if (space != null && !space.tryAcquire(timeout, unit)) return false;
+        enqueue(job);
+        return true;
+    }
+
+    /**
+     * Removes the job with the shortest cook time, waiting until one is queued.
+     *
+     * @return the shortest job
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public PizzaJob take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                notEmpty.await();
+            }
+            return removeLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the job with the shortest cook time if one is queued.
+     *
+     * @return the shortest job, or null if the queue is empty
+     */
+    public PizzaJob poll() {
+        lock.lock();
+        try {
+            return count.get() == 0 ? null : removeLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the job with the shortest cook time, waiting up to
+     * {@code timeout} for one to be queued.
+     *
+     * @param timeout how long to wait
+     * @param unit    the unit of {@code timeout}
+     * @return the shortest job, or null if the wait timed out
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public PizzaJob poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                if (nanos <= 0) return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return removeLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves every queued job into {@code sink}, shortest first, without
+     * waiting.
+     *
+     * @param sink receives the jobs
+     * @return the number of jobs moved
+     */
+    public int drainTo(Collection<? super PizzaJob> sink) {
+        return drainTo(sink, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Moves up to {@code maxJobs} queued jobs into {@code sink}, shortest
+     * first, under a single lock acquisition.
+     *
+     * @param sink    receives the jobs
+     * @param maxJobs the most jobs to move
+     * @return the number of jobs moved
+     */
+    public int drainTo(Collection<? super PizzaJob> sink, int maxJobs) {
+        if (sink == null) throw new IllegalArgumentException("Sink must not be null");
+        lock.lock();
+        try {
+            int k = Math.min(maxJobs, count.get());
+            if (k <= 0) return 0;
+            transfer();
+            for (int i = 0; i < k; i++) {
+                sink.add(heap.delMin());
+            }
+            released(k);
+            return k;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every job counted as queued when the call starts. A job whose
+     * {@code put} is still in progress may survive.
+     */
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            int k = count.get();
+            if (k == 0) return;
+            transfer();
+            if (k == heap.size()) {
+                heap.clear();
+            } else {
+                for (int i = 0; i < k; i++) {
+                    heap.delMin();
+                }
+            }
+            count.addAndGet(-k);
+            if (space != null) space.release(k);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queues a job without waiting.
+     *
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void insert(PizzaJob x) {
+        if (!offer(x)) throw new IllegalStateException("Queue full");
+    }
+
+    @Override
+    public PizzaJob min() {
+        lock.lock();
+        try {
+            if (count.get() == 0) throw new IllegalStateException("Heap underflow");
+            transfer();
+            return heap.min();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public PizzaJob delMin() {
+        PizzaJob job = poll();
+        if (job == null) throw new IllegalStateException("Heap underflow");
+        return job;
+    }
+
+    private void enqueue(PizzaJob job) {
+        intake.add(job);
+        // only the producer that makes the queue non-empty needs the lock
+        if (count.getAndIncrement() == 0) {
+            lock.lock();
+            try {
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Removes the heap minimum; the caller holds the lock and count is
+     * positive. Every counted job is already in the intake list or the heap,
+     * because a producer adds its job before counting it.
+     */
+    private PizzaJob removeLocked() {
+        transfer();
+        PizzaJob job = heap.delMin();
+        released(1);
+        return job;
+    }
+
+    /** Moves everything in the intake list into the heap in one batch. */
+    private void transfer() {
+        PizzaJob job;
+        while ((job = intake.poll()) != null) {
+            batch.add(job);
+        }
+        if (!batch.isEmpty()) {
+            heap.insertAll(batch);
+            batch.clear();
+        }
+    }
+
+    /** Accounts for k removed jobs and wakes the next consumer if jobs remain. */
+    private void released(int k) {
+        if (space != null) space.release(k);
+        if (count.getAndAdd(-k) > k) notEmpty.signal();
+    }
+
+    @Override
+    protected void swim(int k) {
+        throw new UnsupportedOperationException("Blocking queue has no array layout");
+    }
+
+    @Override
+    protected void sink(int k) {
+        throw new UnsupportedOperationException("Blocking queue has no array layout");
+    }
+
+    @Override
+    protected boolean greater(int i, int j) {
+        throw new UnsupportedOperationException("Blocking queue has no array layout");
+    }
+
+    @Override
+    protected void exch(int i, int j) {
+        throw new UnsupportedOperationException("Blocking queue has no array layout");
+    }
+
+    @Override
+    protected void resize(int newCap) {
+        throw new UnsupportedOperationException("Blocking queue has no array layout");
+    }
+
+    @Override
+    protected int compare(PizzaJob a, PizzaJob b) {
+        return Long.compare(a.getCookTime(), b.getCookTime());
+    }
+}
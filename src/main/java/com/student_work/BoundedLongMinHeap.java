@@ -0,0 +1,73 @@
+package com.student_work;
+
+/**
+ * Min-heap that keeps only the K smallest {@code long} keys it is offered.
+ *
+ * <p>Built on {@link MinMaxLongHeap}, so both the smallest kept key and the
+ * cut-off (the largest kept key) are O(1) to read. Once the heap holds K
+ * keys, an offer that is not smaller than the cut-off is rejected with a
+ * single compare; a smaller one evicts the cut-off. The array is sized for
+ * K up front and is never resized, in either direction.</p>
+ */
+public class BoundedLongMinHeap extends MinMaxLongHeap {
+    private final int k;
+
+    /**
+     * Creates an empty heap that keeps at most {@code k} keys.
+     *
+     * @param k the number of smallest keys to keep, at least 1
+     * @throws IllegalArgumentException if {@code k < 1}
+     */
+    public BoundedLongMinHeap(int k) {
+        super(validate(k));
+        this.k = k;
+    }
+
+    private static int validate(int k) {
+        if (k < 1) throw new IllegalArgumentException("Bound must be at least 1: " + k);
+        return k;
+    }
+
+    /**
+     * Returns the number of keys this heap keeps.
+     *
+     * @return K
+     */
+    public int bound() {
+        return k;
+    }
+
+    /**
+     * Offers a key, keeping it only if it is among the K smallest seen.
+     *
+     * @param x the key to offer
+     * @return true if {@code x} was kept, false if it was rejected
+     */
+    public boolean offer(long x) {
+        if (size() < k) {
+            super.insertLong(x);
+            return true;
+        }
+        if (x >= maxLong()) return false;
+        delMaxLong();
+        super.insertLong(x);
+        return true;
+    }
+
+    /**
+     * Same as {@link #offer(long)}; the key is silently dropped if it does
+     * not make the cut.
+     */
+    @Override
+    public void insertLong(long x) {
+        offer(x);
+    }
+
+    /**
+     * The array is allocated for K keys in the constructor and never
+     * changes: inserts never overflow it and removals do not shrink it.
+     */
+    @Override
+    protected void resize(int newCap) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.student_work;
+
+/**
+ * Min-heap that keeps only the K shortest {@link PizzaJob}s it is offered.
+ *
+ * <p>Built on {@link MinMaxPizzaJobHeap}, so both the shortest kept job and
+ * the cut-off (the longest kept job) are O(1) to read. Once the heap holds
+ * K jobs, an offer whose cook time is not shorter than the cut-off is
+ * rejected with a single compare; a shorter one evicts the cut-off. The
+ * arrays are sized for K up front and are never resized.</p>
+ */
+public class BoundedPizzaJobMinHeap extends MinMaxPizzaJobHeap {
+    private final int k;
+
+    /**
+     * Creates an empty heap that keeps at most {@code k} jobs.
+     *
+     * @param k the number of shortest jobs to keep, at least 1
+     * @throws IllegalArgumentException if {@code k < 1}
+     */
+    public BoundedPizzaJobMinHeap(int k) {
+        super(validate(k));
+        this.k = k;
+    }
+
+    private static int validate(int k) {
+        if (k < 1) throw new IllegalArgumentException("Bound must be at least 1: " + k);
+        return k;
+    }
+
+    /**
+     * Returns the number of jobs this heap keeps.
+     *
+     * @return K
+     */
+    public int bound() {
+        return k;
+    }
+
+    /**
+     * Offers a job, keeping it only if it is among the K shortest seen.
+     *
+     * @param x the job to offer
+     * @return true if {@code x} was kept, false if it was rejected
+     * @throws IllegalArgumentException if {@code x} is null
+     */
+    public boolean offer(PizzaJob x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        if (size() < k) {
+            super.insert(x);
+            return true;
+        }
+        if (x.getCookTime() >= maxCookTime()) return false;
+        delMax();
+        super.insert(x);
+        return true;
+    }
+
+    /**
+     * Same as {@link #offer(PizzaJob)}; the job is silently dropped if it
+     * does not make the cut.
+     */
+    @Override
+    public void insert(PizzaJob x) {
+        offer(x);
+    }
+
+    /**
+     * The arrays are allocated for K jobs in the constructor and never
+     * change: inserts never overflow them and removals do not shrink them.
+     */
+    @Override
+    protected void resize(int newCap) {
+    }
+}
@@ -0,0 +1,156 @@
+package com.student_work;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Min-heap of integer keys drawn from a known range {@code [0, range)}.
+ *
+ * <p>Each key has a bucket holding its number of copies, and an occupancy
+ * bitmap marks the non-empty buckets, one bit per key. insert is O(1).
+ * delMin scans the bitmap 64 keys per word from a cursor below which every
+ * word is known to be empty. Inserting below the cursor moves it back, so
+ * the scan is amortized O(1) when minimums mostly rise, as they do in
+ * {@link CookieSolver} and {@link PizzaSolver}, and O(range / 64) at
+ * worst.</p>
+ *
+ * <p>Equal keys are indistinguishable, so only counts are stored: memory is
+ * about {@code 4 * range} bytes however many keys are queued.</p>
+ */
+public class BucketMinHeap extends AbstractMinHeap<Long> {
+
+    private final int[] counts;     // counts[key] = copies of key in the heap
+    private final long[] occupied;  // bit key is set iff counts[key] > 0
+    private int cursor;             // every bitmap word below this index is zero
+    private int n;                  // number of keys in heap
+
+    /**
+     * Creates an empty heap for keys in {@code [0, range)}.
+     *
+     * @param range one more than the largest key allowed
+     * @throws IllegalArgumentException if {@code range < 1}
+     */
+    public BucketMinHeap(int range) {
+        if (range < 1) throw new IllegalArgumentException("Range must be at least 1: " + range);
+        counts = new int[range];
+        occupied = new long[(range + 63) >>> 6];
+        cursor = 0;
+        n = 0;
+    }
+
+    /**
+     * Returns one more than the largest key this heap accepts.
+     *
+     * @return the key range
+     */
+    public int range() {
+        return counts.length;
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Empties the heap, touching only the buckets that are occupied.
+     */
+    @Override
+    public void clear() {
+        for (int w = cursor; w < occupied.length; w++) {
+            long bits = occupied[w];
+            while (bits != 0) {
+                counts[(w << 6) + Long.numberOfTrailingZeros(bits)] = 0;
+                bits &= bits - 1;
+            }
+            occupied[w] = 0;
+        }
+        cursor = 0;
+        n = 0;
+    }
+
+    @Override
+    public void insert(Long x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        insertLong(x);
+    }
+
+    @Override
+    public Long min() {
+        return minLong();
+    }
+
+    @Override
+    public Long delMin() {
+        return delMinLong();
+    }
+
+    /**
+     * Inserts a key in O(1).
+     *
+     * @param x the key to insert
+     * @throws IllegalArgumentException if {@code x} is outside {@code [0, range)}
+     */
+    public void insertLong(long x) {
+        if (x < 0 || x >= counts.length) {
+            throw new IllegalArgumentException("Key out of range [0, " + counts.length + "): " + x);
+        }
+        int k = (int) x;
+        if (counts[k]++ == 0) occupied[k >>> 6] |= 1L << k;
+        if (k >>> 6 < cursor) cursor = k >>> 6;
+        n++;
+    }
+
+    public long minLong() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        return lowest();
+    }
+
+    public long delMinLong() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        int k = lowest();
+        if (--counts[k] == 0) occupied[k >>> 6] &= ~(1L << k);
+        n--;
+        return k;
+    }
+
+    /** Smallest occupied key; the heap must not be empty. */
+    private int lowest() {
+        while (occupied[cursor] == 0) cursor++;
+        return (cursor << 6) + Long.numberOfTrailingZeros(occupied[cursor]);
+    }
+
+    @Override
+    protected void swim(int k) {
+        throw new UnsupportedOperationException("Bucket heap has no array layout");
+    }
+
+    @Override
+    protected void sink(int k) {
+        throw new UnsupportedOperationException("Bucket heap has no array layout");
+    }
+
+    @Override
+    protected boolean greater(int i, int j) {
+        throw new UnsupportedOperationException("Bucket heap has no array layout");
+    }
+
+    @Override
+    protected void exch(int i, int j) {
+        throw new UnsupportedOperationException("Bucket heap has no array layout");
+    }
+
+    @Override
+    protected void resize(int newCap) {
+        throw new UnsupportedOperationException("Bucket heap has no array layout");
+    }
+
+    @Override
+    protected int compare(Long a, Long b) {
+        return Long.compare(a, b);
+    }
+}
@@ -0,0 +1,186 @@
+package com.student_work;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary min-heap ordered by a {@link Comparator}, for element types whose
+ * comparisons are expensive (multi-field tie-breaks, composite keys).
+ *
+ * <p>delMin can run in one of two ways, chosen per instance (the default
+ * is {@code TOP_DOWN}, matching the other heaps):</p>
+ * <ul>
+ *   <li>{@link DeleteStrategy#TOP_DOWN} moves the last element to the root
+ *       and sinks it, which costs two compares per level: one to pick the
+ *       smaller child and one against the sinking element. That is about
+ *       2 log2 n compares in total.</li>
+ *   <li>{@link DeleteStrategy#BOTTOM_UP} first walks the hole left by the
+ *       root down to a leaf, promoting the smaller child at each level
+ *       (one compare per level). It then drops the last element into the
+ *       hole and swims it up. Elements taken from the bottom rarely climb
+ *       far, so the total is close to log2 n compares.</li>
+ * </ul>
+ *
+ * <p>The array is 1-indexed (index 0 unused) with parent {@code k/2} and
+ * children {@code 2k}, {@code 2k + 1}.</p>
+ *
+ * @param <T> the element type
+ */
+public class ComparatorMinHeap<T> extends AbstractMinHeap<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** How delMin restores heap order after removing the root. */
+    public enum DeleteStrategy {
+        TOP_DOWN,
+        BOTTOM_UP
+    }
+
+    private final Comparator<? super T> comparator;
+    private final DeleteStrategy strategy;
+    private T[] heap;       // 1-indexed: heap[0] is unused
+    private int n;          // number of elements in heap
+
+    public ComparatorMinHeap(Comparator<? super T> comparator) {
+        this(comparator, DEFAULT_CAPACITY);
+    }
+
+    public ComparatorMinHeap(Comparator<? super T> comparator, int capacity) {
+        this(comparator, capacity, DeleteStrategy.TOP_DOWN);
+    }
+
+    /**
+     * Creates an empty heap.
+     *
+     * @param comparator orders the elements
+     * @param capacity   the initial capacity
+     * @param strategy   how delMin restores heap order
+     */
+    @SuppressWarnings("unchecked")
+    public ComparatorMinHeap(Comparator<? super T> comparator, int capacity, DeleteStrategy strategy) {
+        if (comparator == null) throw new IllegalArgumentException("Comparator must not be null");
+        if (strategy == null) throw new IllegalArgumentException("Strategy must not be null");
+        this.comparator = comparator;
+        this.strategy = strategy;
+        heap = (T[]) new Object[Math.max(capacity, 1) + 1];
+        n = 0;
+    }
+
+    /**
+     * Returns the delete strategy this heap was built with.
+     *
+     * @return the delete strategy
+     */
+    public DeleteStrategy strategy() {
+        return strategy;
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 1; i <= n; i++) {
+            heap[i] = null;
+        }
+        n = 0;
+    }
+
+    @Override
+    public void insert(T x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        if (n == heap.length - 1) resize(2 * heap.length);
+        heap[++n] = x;
+        swim(n);
+    }
+
+    @Override
+    public T min() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        return heap[1];
+    }
+
+    @Override
+    public T delMin() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        T min = heap[1];
+        T last = heap[n];
+        heap[n--] = null;   // avoid loitering
+        if (n > 0) {
+            if (strategy == DeleteStrategy.BOTTOM_UP) {
+                int leaf = descendHole(1);
+                heap[leaf] = last;
+                swim(leaf);
+            } else {
+                heap[1] = last;
+                sink(1);
+            }
+        }
+        if (n > 0 && n == (heap.length - 1) / 4) resize(heap.length / 2);
+        return min;
+    }
+
+    /**
+     * Moves the hole at k down to a leaf, promoting the smaller child at
+     * each level, and returns where the hole ended up.
+     */
+    private int descendHole(int k) {
+        while (2 * k <= n) {
+            int j = 2 * k;
+            if (j < n && greater(j, j + 1)) j++;
+            heap[k] = heap[j];
+            k = j;
+        }
+        return k;
+    }
+
+    @Override
+    protected void swim(int k) {
+        while (k > 1 && greater(k / 2, k)) {
+            exch(k, k / 2);
+            k = k / 2;
+        }
+    }
+
+    @Override
+    protected void sink(int k) {
+        while (2 * k <= n) {
+            int j = 2 * k;
+            if (j < n && greater(j, j + 1)) j++;
+            if (!greater(k, j)) break;
+            exch(k, j);
+            k = j;
+        }
+    }
+
+    @Override
+    protected boolean greater(int i, int j) {
+        return compare(heap[i], heap[j]) > 0;
+    }
+
+    @Override
+    protected void exch(int i, int j) {
+        T swap = heap[i];
+        heap[i] = heap[j];
+        heap[j] = swap;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void resize(int newCap) {
+        T[] temp = (T[]) new Object[newCap];
+        System.arraycopy(heap, 1, temp, 1, n);
+        heap = temp;
+    }
+
+    @Override
+    protected int compare(T a, T b) {
+        return comparator.compare(a, b);
+    }
+}
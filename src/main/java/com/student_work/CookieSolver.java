@@ -1,17 +1,125 @@
 package com.student_work;
 import edu.princeton.cs.algs4.StdIn;
 
+import java.util.Arrays;
+import java.util.Random;
+
 
 public class CookieSolver {
+    // use a BucketMinHeap when k is at most this many buckets per cookie (plus a small fixed allowance)
+    private static final long BUCKETS_PER_COOKIE = 8;
+    private static final long BUCKET_ALLOWANCE = 1 << 16;
+    // use a RunLengthLongHeap when there are at least this many cookies per distinct sweetness
+    private static final int COPIES_PER_RUN = 64;
+    private static final int SAMPLE_SIZE = 4096;
+
     public static void main(String[] args) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        int n = StdIn.readInt();
+        long k = StdIn.readLong();
+        long[] A = new long[n];
+        for (int i = 0; i < n; i++) {
+            A[i] = StdIn.readLong();
+        }
+        System.out.println(cookies(k, A));
     }
 
     private static long mix(long a, long b) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return a + 2 * b;
     }
 
     public static int cookies(long k, long[] A) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        if (k == 0) return 0;
+        if (fitsBuckets(k, A)) return cookiesBucketed(k, A);
+        if (mostlyDuplicates(A)) return cookiesRunLength(k, new RunLengthLongHeap(A));
+
+        LongMinHeap heap = new LongMinHeap(A);
+
+        int ops = 0;
+        while (heap.size() > 1 && heap.minLong() < k) {
+            heap.mixTwo(CookieSolver::mix);
+            ops++;
+        }
+        return heap.minLong() >= k ? ops : -1;
+    }
+
+    /**
+     * Sweetness at or above k never needs to be told apart, so keys can be
+     * capped at k. That fits a bucket per key when k is small next to the
+     * input and no sweetness is negative.
+     */
+    private static boolean fitsBuckets(long k, long[] A) {
+        if (k < 1 || k > BUCKETS_PER_COOKIE * A.length + BUCKET_ALLOWANCE) return false;
+        for (long a : A) {
+            if (a < 0) return false;
+        }
+        return true;
+    }
+
+    private static int cookiesBucketed(long k, long[] A) {
+        BucketMinHeap heap = new BucketMinHeap((int) k + 1);
+        for (long a : A) {
+            heap.insertLong(Math.min(a, k));
+        }
+
+        int ops = 0;
+        while (heap.size() > 1 && heap.minLong() < k) {
+            long least = heap.delMinLong();
+            heap.insertLong(Math.min(mix(least, heap.delMinLong()), k));
+            ops++;
+        }
+        return heap.minLong() >= k ? ops : -1;
+    }
+
+    /**
+     * Guesses whether A averages at least COPIES_PER_RUN cookies per distinct
+     * sweetness without sorting all of it. Up to SAMPLE_SIZE cookies are
+     * counted exactly. Past that, s cookies drawn at random from D equally
+     * common values repeat about s^2 / 2D times, so D <= n / COPIES_PER_RUN
+     * once the sample holds at least COPIES_PER_RUN * s^2 / 2n repeats.
+     */
+    private static boolean mostlyDuplicates(long[] A) {
+        int n = A.length;
+        long[] sample;
+        if (n <= SAMPLE_SIZE) {
+            sample = A.clone();
+        } else {
+            sample = new long[SAMPLE_SIZE];
+            Random rand = new Random(n);
+            for (int i = 0; i < SAMPLE_SIZE; i++) {
+                sample[i] = A[rand.nextInt(n)];
+            }
+        }
+        Arrays.sort(sample);
+        int repeats = 0;
+        for (int i = 1; i < sample.length; i++) {
+            if (sample[i] == sample[i - 1]) repeats++;
+        }
+        if (n <= SAMPLE_SIZE) return (long) (n - repeats) * COPIES_PER_RUN <= n;
+        return 2L * n * repeats >= (long) COPIES_PER_RUN * SAMPLE_SIZE * SAMPLE_SIZE;
+    }
+
+    /**
+     * Mixes whole runs of equal sweetness at once: c copies of the least
+     * sweet value s become c / 2 copies of s + 2s in one step. That matches
+     * mixing them pair by pair, since s + 2s is never below s when s is not
+     * negative.
+     */
+    private static int cookiesRunLength(long k, RunLengthLongHeap heap) {
+        int ops = 0;
+        while (heap.sizeLong() > 1 && heap.minLong() < k) {
+            long least = heap.minLong();
+            long copies = heap.minCount();
+            if (copies >= 2 && least >= 0) {
+                long pairs = copies / 2;
+                heap.removeMin(2 * pairs);
+                heap.insert(mix(least, least), pairs);
+                ops += (int) pairs;
+            } else {
+                heap.delMinLong();
+                heap.insert(mix(least, heap.delMinLong()), 1);
+                ops++;
+            }
+        }
+        return heap.minLong() >= k ? ops : -1;
     }
 }
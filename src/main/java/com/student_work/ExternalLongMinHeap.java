@@ -0,0 +1,332 @@
+package com.student_work;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Min-heap of {@code long} keys that can grow past the Java heap by spilling
+ * to local disk.
+ *
+ * <p>New keys go into an in-memory {@link LongMinHeap} buffer. When the
+ * buffer fills, it is drained in sorted order into a run file and emptied.
+ * delMin takes the smaller of the buffer's minimum and the smallest run
+ * head; run heads are kept in a {@link KeyedLongHeap}, so picking one is
+ * O(log r) for r runs. Runs are read and written sequentially through
+ * {@code BLOCK_SIZE} buffers.</p>
+ *
+ * <p>Runs are merged level by level. A spilled run is on level 0, and once
+ * {@code MERGE_FANIN} runs share a level they are merged into one run on the
+ * next level, which may cascade. Each key is therefore rewritten once per
+ * level, O(log(N/B)) times in all for N keys and a buffer of B, and at most
+ * {@code MERGE_FANIN - 1} runs stay open per level.</p>
+ *
+ * <p>I/O failures are rethrown as {@link UncheckedIOException}. Call
+ * {@link #close()} to delete the run files.</p>
+ */
+public class ExternalLongMinHeap extends AbstractMinHeap<Long> implements AutoCloseable {
+    private static final int DEFAULT_BUFFER_CAPACITY = 1 << 20;   // 8 MiB of keys in memory
+    private static final int BLOCK_SIZE = 1 << 16;                // bytes per sequential read or write
+    private static final int MERGE_FANIN = 16;                    // runs merged at once
+
+    /** A sorted run on disk, positioned at its smallest unread key. */
+    private static final class Run {
+        final Path file;
+        final int level;    // number of merges behind this run
+        final DataInputStream in;
+        long remaining;     // keys not yet read, excluding head
+        long head;
+
+        Run(Path file, int level, long count) throws IOException {
+            this.file = file;
+            this.level = level;
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BLOCK_SIZE));
+            this.remaining = count - 1;
+            this.head = in.readLong();
+        }
+
+        /** Moves to the next key; returns false once the run is used up. */
+        boolean advance() throws IOException {
+            if (remaining == 0) return false;
+            remaining--;
+            head = in.readLong();
+            return true;
+        }
+
+        void delete() throws IOException {
+            in.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private final LongMinHeap buffer;
+    private final int bufferCapacity;
+    private final KeyedLongHeap<Run> runs = new KeyedLongHeap<>(r -> r.head);
+    private final int[] runsPerLevel = new int[Long.SIZE];
+    private final Path dir;
+    private final boolean ownsDir;
+    private long n;             // keys in buffer and runs combined
+    private long runCounter;    // for unique run file names
+
+    public ExternalLongMinHeap() {
+        this(DEFAULT_BUFFER_CAPACITY);
+    }
+
+    /**
+     * Creates a heap that spills to a fresh temporary directory.
+     *
+     * @param bufferCapacity the number of keys held in memory before a spill
+     * @throws UncheckedIOException if the directory cannot be created
+     */
+    public ExternalLongMinHeap(int bufferCapacity) {
+        this(bufferCapacity, createTempDir(), true);
+    }
+
+    /**
+     * Creates a heap that spills into {@code dir}, which must already exist.
+     *
+     * @param bufferCapacity the number of keys held in memory before a spill
+     * @param dir            where run files are written
+     */
+    public ExternalLongMinHeap(int bufferCapacity, Path dir) {
+        this(bufferCapacity, dir, false);
+    }
+
+    private ExternalLongMinHeap(int bufferCapacity, Path dir, boolean ownsDir) {
+        if (bufferCapacity < 1) throw new IllegalArgumentException("Buffer capacity must be at least 1: " + bufferCapacity);
+        this.bufferCapacity = bufferCapacity;
+        this.buffer = new LongMinHeap(bufferCapacity);
+        this.dir = dir;
+        this.ownsDir = ownsDir;
+        n = 0;
+    }
+
+    private static Path createTempDir() {
+        try {
+            return Files.createTempDirectory("heap-runs");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(n, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the exact number of keys, which may exceed {@code Integer.MAX_VALUE}.
+     *
+     * @return the size of the heap
+     */
+    public long sizeLong() {
+        return n;
+    }
+
+    /**
+     * Returns the number of sorted runs currently on disk.
+     *
+     * @return the run count
+     */
+    public int runCount() {
+        return runs.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Empties the heap and deletes every run file.
+     */
+    @Override
+    public void clear() {
+        buffer.clear();
+        try {
+            while (!runs.isEmpty()) {
+                runs.delMin().delete();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Arrays.fill(runsPerLevel, 0);
+        n = 0;
+    }
+
+    @Override
+    public void insert(Long x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        insertLong(x);
+    }
+
+    @Override
+    public Long min() {
+        return minLong();
+    }
+
+    @Override
+    public Long delMin() {
+        return delMinLong();
+    }
+
+    public void insertLong(long x) {
+        if (buffer.size() == bufferCapacity) spill();
+        buffer.insertLong(x);
+        n++;
+    }
+
+    public long minLong() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        if (runs.isEmpty()) return buffer.minLong();
+        if (buffer.isEmpty()) return runs.minKey();
+        return Math.min(buffer.minLong(), runs.minKey());
+    }
+
+    public long delMinLong() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        n--;
+        if (runs.isEmpty() || (!buffer.isEmpty() && buffer.minLong() <= runs.minKey())) {
+            return buffer.delMinLong();
+        }
+        Run run = runs.min();
+        long min = run.head;
+        try {
+            if (run.advance()) {
+                runs.replaceMin(run);
+            } else {
+                deleteRun(runs.delMin());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return min;
+    }
+
+    /**
+     * Deletes every run file, and the spill directory if this heap created it.
+     */
+    @Override
+    public void close() {
+        clear();
+        if (ownsDir) {
+            try {
+                Files.deleteIfExists(dir);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /** Writes the buffer out as one sorted run, empties it, and merges full levels. */
+    private void spill() {
+        try {
+            long count = buffer.size();
+            Path file = newRunFile();
+            try (DataOutputStream out = openRun(file)) {
+                while (!buffer.isEmpty()) {
+                    out.writeLong(buffer.delMinLong());
+                }
+            }
+            addRun(new Run(file, 0, count));
+            for (int level = 0; runsPerLevel[level] >= MERGE_FANIN; level++) {
+                mergeLevel(level);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Merges the runs on one level into a single run on the next. Other runs
+     * are left alone, so a key is only rewritten when its run moves up.
+     */
+    private void mergeLevel(int level) throws IOException {
+        // the run heap has no remove, so take it apart and put the other levels back
+        KeyedLongHeap<Run> merging = new KeyedLongHeap<>(r -> r.head, MERGE_FANIN);
+        ArrayList<Run> others = new ArrayList<>(runs.size());
+        while (!runs.isEmpty()) {
+            Run run = runs.delMin();
+            if (run.level == level) {
+                merging.insert(run);
+            } else {
+                others.add(run);
+            }
+        }
+        for (Run run : others) {
+            runs.insert(run);
+        }
+
+        long count = 0;
+        Path file = newRunFile();
+        try (DataOutputStream out = openRun(file)) {
+            while (!merging.isEmpty()) {
+                Run run = merging.min();
+                out.writeLong(run.head);
+                count++;
+                if (run.advance()) {
+                    merging.replaceMin(run);
+                } else {
+                    deleteRun(merging.delMin());
+                }
+            }
+        }
+        addRun(new Run(file, level + 1, count));
+    }
+
+    private void addRun(Run run) {
+        runs.insert(run);
+        runsPerLevel[run.level]++;
+    }
+
+    private void deleteRun(Run run) throws IOException {
+        runsPerLevel[run.level]--;
+        run.delete();
+    }
+
+    private Path newRunFile() {
+        return dir.resolve("run-" + (runCounter++) + ".bin");
+    }
+
+    private static DataOutputStream openRun(Path file) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BLOCK_SIZE));
+    }
+
+    @Override
+    protected void swim(int k) {
+        throw new UnsupportedOperationException("External heap has no array layout");
+    }
+
+    @Override
+    protected void sink(int k) {
+        throw new UnsupportedOperationException("External heap has no array layout");
+    }
+
+    @Override
+    protected boolean greater(int i, int j) {
+        throw new UnsupportedOperationException("External heap has no array layout");
+    }
+
+    @Override
+    protected void exch(int i, int j) {
+        throw new UnsupportedOperationException("External heap has no array layout");
+    }
+
+    @Override
+    protected void resize(int newCap) {
+        throw new UnsupportedOperationException("External heap has no array layout");
+    }
+
+    @Override
+    protected int compare(Long a, Long b) {
+        return Long.compare(a, b);
+    }
+}
@@ -0,0 +1,287 @@
+package com.student_work;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe {@link PizzaJobMinHeap} that uses flat combining, for many
+ * threads issuing short inserts and deletes against one heap.
+ *
+ * <p>Each thread owns a request slot in a shared list. To insert or delete
+ * it writes the request into its slot and tries the lock. The thread that
+ * gets the lock becomes the combiner and applies every pending request in
+ * one pass; everyone else spins on their own slot until the answer appears.
+ * The lock changes hands once per batch instead of once per operation, and
+ * the heap stays in the combiner's cache.</p>
+ *
+ * <p>A batch is applied with the heap's cheaper paths:</p>
+ * <ul>
+ *   <li>a delete paired with an insert whose cook time is no larger than the
+ *       minimum takes that job directly and never touches the heap;</li>
+ *   <li>any other insert/delete pair is one {@code replaceMin}, a single sink
+ *       instead of a swim and a sink;</li>
+ *   <li>the remaining inserts go in with one {@code insertAll}, which rebuilds
+ *       the heap bottom-up when the batch is large.</li>
+ * </ul>
+ * <p>All requests in a batch were pending at the same time, so any order
+ * among them is a valid result.</p>
+ *
+ * <p>A slot found idle by {@value #STALE_SCANS} combiner scans in a row (or
+ * the count given to the constructor) is unlinked, so threads that stop
+ * using the heap do not slow the scan; the owner relinks it on its next
+ * request.</p>
+ */
+public class FlatCombiningPizzaJobHeap extends AbstractMinHeap<PizzaJob> {
+    /** Default number of combiner scans a slot may stay idle for before it is unlinked. */
+    public static final int STALE_SCANS = 1024;
+
+    private static final int NONE = 0;
+    private static final int INSERT = 1;
+    private static final int DEL_MIN = 2;
+    private static final int MAX_ROUNDS = 3;            // scans per combining pass while requests keep coming
+    // spinning only helps when the combiner runs on another core
+    private static final int SPINS_BEFORE_YIELD = Runtime.getRuntime().availableProcessors() > 1 ? 64 : 1;
+
+    /** One thread's request slot. */
+    private static final class Slot {
+        volatile int op = NONE;     // pending request, reset to NONE once served
+        PizzaJob arg;               // written before op is set
+        PizzaJob result;            // written before op is reset; null means underflow
+        volatile boolean linked;    // false once the combiner unlinks the slot
+        volatile Slot next;
+        int idle;                   // scans since last served, combiner only
+    }
+
+    private final PizzaJobMinHeap heap;                 // guarded by lock
+    private final int staleScans;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicReference<Slot> head = new AtomicReference<>();
+    private final ThreadLocal<Slot> mySlot = ThreadLocal.withInitial(Slot::new);
+    private volatile int size;
+
+    // reused by the combiner, guarded by lock
+    private final ArrayList<Slot> inserts = new ArrayList<>();
+    private final ArrayList<Slot> deletes = new ArrayList<>();
+    private final ArrayList<PizzaJob> batch = new ArrayList<>();
+
+    public FlatCombiningPizzaJobHeap() {
+        this(new PizzaJobMinHeap());
+    }
+
+    /**
+     * Wraps an empty heap.
+     *
+     * @param heap the heap to wrap; it must not be used directly afterwards
+     * @throws IllegalArgumentException if {@code heap} is null or not empty
+     */
+    public FlatCombiningPizzaJobHeap(PizzaJobMinHeap heap) {
+        this(heap, STALE_SCANS);
+    }
+
+    /**
+     * Wraps an empty heap and unlinks slots after {@code staleScans} idle
+     * scans instead of {@link #STALE_SCANS}.
+     *
+     * @param heap       the heap to wrap; it must not be used directly afterwards
+     * @param staleScans combiner scans a slot may stay idle for before it is unlinked
+     * @throws IllegalArgumentException if {@code heap} is null or not empty, or {@code staleScans < 1}
+     */
+    public FlatCombiningPizzaJobHeap(PizzaJobMinHeap heap, int staleScans) {
+        if (heap == null) throw new IllegalArgumentException("Heap must not be null");
+        if (!heap.isEmpty()) throw new IllegalArgumentException("Heap must be empty");
+        if (staleScans < 1) throw new IllegalArgumentException("Stale scans must be at least 1: " + staleScans);
+        this.heap = heap;
+        this.staleScans = staleScans;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void insert(PizzaJob x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        Slot slot = slot();
+        slot.arg = x;
+        slot.op = INSERT;
+        await(slot);
+    }
+
+    @Override
+    public PizzaJob delMin() {
+        Slot slot = slot();
+        slot.op = DEL_MIN;
+        await(slot);
+        PizzaJob result = slot.result;
+        slot.result = null;
+        if (result == null) throw new IllegalStateException("Heap underflow");
+        return result;
+    }
+
+    @Override
+    public PizzaJob min() {
+        lock.lock();
+        try {
+            return heap.min();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            heap.clear();
+            size = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Returns this thread's slot, linking it into the list if needed. */
+    private Slot slot() {
+        Slot slot = mySlot.get();
+        if (!slot.linked) {
+            slot.linked = true;
+            Slot first;
+            do {
+                first = head.get();
+                slot.next = first;
+            } while (!head.compareAndSet(first, slot));
+        }
+        return slot;
+    }
+
+    /** Waits until the slot's request is served, combining if the lock is free. */
+    private void await(Slot slot) {
+        int spins = 0;
+        while (true) {
+            if (lock.tryLock()) {
+                try {
+                    combine(slot);
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+            while (slot.op != NONE && lock.isLocked()) {
+                if (++spins % SPINS_BEFORE_YIELD == 0) {
+                    Thread.yield();
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+            if (slot.op == NONE) return;
+        }
+    }
+
+    /** Serves pending requests; the caller holds the lock and owns {@code mine}. */
+    private void combine(Slot mine) {
+        for (int round = 0; round < MAX_ROUNDS; round++) {
+            if (!collect()) break;
+            apply();
+        }
+        // mine may have been unlinked as stale just before it was posted
+        if (mine.op != NONE) {
+            (mine.op == INSERT ? inserts : deletes).add(mine);
+            apply();
+        }
+    }
+
+    /** Gathers pending requests and unlinks stale slots; returns false if none were pending. */
+    private boolean collect() {
+        Slot prev = null;
+        Slot next;
+        for (Slot s = head.get(); s != null; s = next) {
+            // read before unlinking: once linked is false the owner may push s back at the head
+            next = s.next;
+            int op = s.op;
+            if (op == INSERT) {
+                inserts.add(s);
+            } else if (op == DEL_MIN) {
+                deletes.add(s);
+            } else if (++s.idle > staleScans && prev != null) {
+                // only interior links are changed here; new slots are only ever pushed at the head
+                prev.next = next;
+                s.idle = 0;
+                s.linked = false;
+                continue;
+            }
+            if (op != NONE) s.idle = 0;
+            prev = s;
+        }
+        return !inserts.isEmpty() || !deletes.isEmpty();
+    }
+
+    /** Applies the collected requests as one batch and releases their threads. */
+    private void apply() {
+        int paired = Math.min(inserts.size(), deletes.size());
+        for (int i = 0; i < paired; i++) {
+            PizzaJob x = inserts.get(inserts.size() - 1 - i).arg;
+            Slot del = deletes.get(i);
+            if (heap.isEmpty() || x.getCookTime() <= heap.minCookTime()) {
+                del.result = x;                                 // insert then delMin returns x itself
+            } else {
+                del.result = heap.replaceMin(x);
+            }
+        }
+        for (int i = 0; i < inserts.size() - paired; i++) {
+            batch.add(inserts.get(i).arg);
+        }
+        if (!batch.isEmpty()) heap.insertAll(batch);
+        for (int i = paired; i < deletes.size(); i++) {
+            deletes.get(i).result = heap.isEmpty() ? null : heap.delMin();
+        }
+        size = heap.size();
+
+        // release only after size is published, so a returning thread sees its own effect
+        for (Slot s : inserts) {
+            s.arg = null;
+            s.op = NONE;
+        }
+        for (Slot s : deletes) {
+            s.op = NONE;
+        }
+        inserts.clear();
+        deletes.clear();
+        batch.clear();
+    }
+
+    @Override
+    protected void swim(int k) {
+        throw new UnsupportedOperationException("Flat-combining heap has no array layout");
+    }
+
+    @Override
+    protected void sink(int k) {
+        throw new UnsupportedOperationException("Flat-combining heap has no array layout");
+    }
+
+    @Override
+    protected boolean greater(int i, int j) {
+        throw new UnsupportedOperationException("Flat-combining heap has no array layout");
+    }
+
+    @Override
+    protected void exch(int i, int j) {
+        throw new UnsupportedOperationException("Flat-combining heap has no array layout");
+    }
+
+    @Override
+    protected void resize(int newCap) {
+        throw new UnsupportedOperationException("Flat-combining heap has no array layout");
+    }
+
+    @Override
+    protected int compare(PizzaJob a, PizzaJob b) {
+        return Long.compare(a.getCookTime(), b.getCookTime());
+    }
+}
@@ -0,0 +1,271 @@
+package com.student_work;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Min-heap of {@link PizzaJob}s ordered by cook time that hands out a handle
+ * for every inserted job, so queued orders can be re-estimated or cancelled
+ * in O(log n) without rebuilding the heap.
+ *
+ * <p>The heap array {@code pq} stores handles rather than jobs, and
+ * {@code qp} maps each handle back to its heap position; {@code exch} keeps
+ * the two in step. A handle stays valid until its job leaves the heap
+ * through {@code delMin} or {@code remove}, after which it may be reused by
+ * a later insert. The arrays only grow, since handles index straight into
+ * them; {@code clear} releases them.</p>
+ */
+public class IndexedPizzaJobMinHeap extends AbstractMinHeap<PizzaJob> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] pq;           // 1-indexed: heap position -> handle
+    private int[] qp;           // handle -> heap position, or -1 if not queued
+    private PizzaJob[] jobs;    // handle -> job
+    private int[] free;         // stack of released handles
+    private int freeCount;      // number of handles on the free stack
+    private int nextHandle;     // lowest handle never issued
+    private int n;              // number of elements in heap
+    private final int d;        // arity: number of children per node
+
+    public IndexedPizzaJobMinHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IndexedPizzaJobMinHeap(int capacity) {
+        this(capacity, PizzaJobMinHeap.DEFAULT_ARITY);
+    }
+
+    /**
+     * Creates an empty d-ary indexed heap.
+     *
+     * @param capacity the initial capacity
+     * @param arity    the number of children per node, at least 2
+     * @throws IllegalArgumentException if {@code arity < 2}
+     */
+    public IndexedPizzaJobMinHeap(int capacity, int arity) {
+        if (arity < 2) throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        d = arity;
+        allocate(Math.max(capacity, 1));
+    }
+
+    private void allocate(int capacity) {
+        pq = new int[capacity + 1];
+        qp = new int[capacity];
+        jobs = new PizzaJob[capacity];
+        free = new int[capacity];
+        freeCount = 0;
+        nextHandle = 0;
+        n = 0;
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    @Override
+    public void clear() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public void insert(PizzaJob x) {
+        insertWithHandle(x);
+    }
+
+    /**
+     * Inserts a job and returns the handle that identifies it.
+     *
+     * @param x the job to insert
+     * @return a handle for {@code x}, valid until it leaves the heap
+     * @throws IllegalArgumentException if {@code x} is null
+     */
+    public int insertWithHandle(PizzaJob x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        if (n == pq.length - 1) resize(2 * pq.length);
+        int h = freeCount > 0 ? free[--freeCount] : nextHandle++;
+        jobs[h] = x;
+        pq[++n] = h;
+        qp[h] = n;
+        swim(n);
+        return h;
+    }
+
+    /**
+     * Returns true if {@code handle} refers to a job currently in the heap.
+     *
+     * @param handle a handle returned by {@link #insertWithHandle}
+     * @return whether the job is still queued
+     */
+    public boolean contains(int handle) {
+        return handle >= 0 && handle < nextHandle && qp[handle] != -1;
+    }
+
+    /**
+     * Returns the job identified by {@code handle}.
+     *
+     * @param handle the handle of a queued job
+     * @return the job
+     * @throws NoSuchElementException if the handle is not in the heap
+     */
+    public PizzaJob get(int handle) {
+        validate(handle);
+        return jobs[handle];
+    }
+
+    /**
+     * Changes the cook time of a queued job, keeping its arrival time.
+     *
+     * @param handle      the handle of a queued job
+     * @param newCookTime the new cook time
+     * @throws NoSuchElementException if the handle is not in the heap
+     */
+    public void changeKey(int handle, long newCookTime) {
+        validate(handle);
+        jobs[handle] = new PizzaJob(jobs[handle].getArrivalTime(), newCookTime);
+        swim(qp[handle]);
+        sink(qp[handle]);
+    }
+
+    /**
+     * Lowers the cook time of a queued job, keeping its arrival time.
+     *
+     * @param handle      the handle of a queued job
+     * @param newCookTime the new cook time, strictly less than the current one
+     * @throws NoSuchElementException   if the handle is not in the heap
+     * @throws IllegalArgumentException if {@code newCookTime} does not decrease the key
+     */
+    public void decreaseKey(int handle, long newCookTime) {
+        validate(handle);
+        if (newCookTime >= jobs[handle].getCookTime()) {
+            throw new IllegalArgumentException("Calling decreaseKey() with a key that does not strictly decrease it");
+        }
+        jobs[handle] = new PizzaJob(jobs[handle].getArrivalTime(), newCookTime);
+        swim(qp[handle]);
+    }
+
+    /**
+     * Removes a queued job and releases its handle.
+     *
+     * @param handle the handle of a queued job
+     * @return the removed job
+     * @throws NoSuchElementException if the handle is not in the heap
+     */
+    public PizzaJob remove(int handle) {
+        validate(handle);
+        int k = qp[handle];
+        exch(k, n--);
+        if (k <= n) {
+            swim(k);
+            sink(k);
+        }
+        return release(handle);
+    }
+
+    /**
+     * Returns the handle of the job with the smallest cook time.
+     *
+     * @return the handle of the minimum job
+     * @throws IllegalStateException if the heap is empty
+     */
+    public int minHandle() {
+        if (isEmpty()) throw new IllegalStateException("Heap underflow");
+        return pq[1];
+    }
+
+    @Override
+    public PizzaJob min() {
+        return jobs[minHandle()];
+    }
+
+    @Override
+    public PizzaJob delMin() {
+        int h = minHandle();
+        exch(1, n--);
+        sink(1);
+        return release(h);
+    }
+
+    private PizzaJob release(int handle) {
+        PizzaJob job = jobs[handle];
+        jobs[handle] = null;    // avoid loitering
+        qp[handle] = -1;
+        free[freeCount++] = handle;
+        return job;
+    }
+
+    private void validate(int handle) {
+        if (!contains(handle)) throw new NoSuchElementException("Handle is not in the heap: " + handle);
+    }
+
+    @Override
+    protected void swim(int k) {
+        while (k > 1) {
+            int parent = (k - 2) / d + 1;
+            if (!greater(parent, k)) break;
+            exch(k, parent);
+            k = parent;
+        }
+    }
+
+    @Override
+    protected void sink(int k) {
+        // nodes 1 .. ceil((n - 1) / d) have at least one child
+        while (k <= (n + d - 2) / d) {
+            int first = d * (k - 1) + 2;
+            int last = Math.min(first + d - 1, n);
+            int j = first;
+            for (int c = first + 1; c <= last; c++) {
+                if (greater(j, c)) j = c;
+            }
+            if (!greater(k, j)) break;
+            exch(k, j);
+            k = j;
+        }
+    }
+
+    @Override
+    protected boolean greater(int i, int j) {
+        return compare(jobs[pq[i]], jobs[pq[j]]) > 0;
+    }
+
+    @Override
+    protected void exch(int i, int j) {
+        int swap = pq[i];
+        pq[i] = pq[j];
+        pq[j] = swap;
+        qp[pq[i]] = i;
+        qp[pq[j]] = j;
+    }
+
+    /**
+     * Grows the heap and handle tables. Shrinking is never requested,
+     * because live handles may index anywhere below {@code nextHandle}.
+     */
+    @Override
+    protected void resize(int newCap) {
+        int[] tempPq = new int[newCap];
+        System.arraycopy(pq, 1, tempPq, 1, n);
+        pq = tempPq;
+
+        int handles = newCap - 1;
+        int[] tempQp = new int[handles];
+        System.arraycopy(qp, 0, tempQp, 0, nextHandle);
+        qp = tempQp;
+        PizzaJob[] tempJobs = new PizzaJob[handles];
+        System.arraycopy(jobs, 0, tempJobs, 0, nextHandle);
+        jobs = tempJobs;
+        int[] tempFree = new int[handles];
+        System.arraycopy(free, 0, tempFree, 0, freeCount);
+        free = tempFree;
+    }
+
+    @Override
+    protected int compare(PizzaJob a, PizzaJob b) {
+        return Long.compare(a.getCookTime(), b.getCookTime());
+    }
+}
@@ -0,0 +1,228 @@
+package com.student_work;
+
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.function.ToLongFunction;
+
+/**
+ * Min-heap of arbitrary elements ordered by a {@code long} key that is
+ * extracted once, when the element is inserted.
+ *
+ * <p>Keys and elements sit in parallel 1-indexed arrays (index 0 unused), so
+ * sift loops compare primitive keys and never call back into the element
+ * type. A new element type only needs a key function, not a new
+ * {@link AbstractMinHeap} subclass:</p>
+ *
+ * <pre>
+ *     KeyedLongHeap&lt;PizzaJob&gt; jobs = new KeyedLongHeap&lt;&gt;(PizzaJob::getCookTime);
+ * </pre>
+ *
+ * <p>Unlike {@link PizzaJobMinHeap}, elements are returned as the same
+ * instances that were inserted. The key must not change while an element
+ * is queued. The tree is d-ary with the same layout as
+ * {@link LongMinHeap}.</p>
+ *
+ * @param <T> the element type
+ */
+public class KeyedLongHeap<T> extends AbstractMinHeap<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final ToLongFunction<? super T> keyOf;
+    private long[] keys;        // 1-indexed: keys[0] is unused
+    private T[] items;          // items[k] is the element whose key is keys[k]
+    private int n;              // number of elements in heap
+    private final int d;        // arity: number of children per node
+
+    public KeyedLongHeap(ToLongFunction<? super T> keyOf) {
+        this(keyOf, DEFAULT_CAPACITY);
+    }
+
+    public KeyedLongHeap(ToLongFunction<? super T> keyOf, int capacity) {
+        this(keyOf, capacity, LongMinHeap.DEFAULT_ARITY);
+    }
+
+    /**
+     * Creates an empty d-ary heap.
+     *
+     * @param keyOf    extracts the ordering key of an element
+     * @param capacity the initial capacity
+     * @param arity    the number of children per node, at least 2
+     * @throws IllegalArgumentException if {@code arity < 2}
+     */
+    @SuppressWarnings("unchecked")
+    public KeyedLongHeap(ToLongFunction<? super T> keyOf, int capacity, int arity) {
+        if (keyOf == null) throw new IllegalArgumentException("Key function must not be null");
+        if (arity < 2) throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        this.keyOf = keyOf;
+        keys = new long[Math.max(capacity, 1) + 1];
+        items = (T[]) new Object[keys.length];
+        n = 0;
+        d = arity;
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 1; i <= n; i++) {
+            items[i] = null;
+        }
+        n = 0;
+    }
+
+    @Override
+    public void insert(T x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        if (n == keys.length - 1) resize(2 * keys.length);
+        n++;
+        keys[n] = keyOf.applyAsLong(x);
+        items[n] = x;
+        swim(n);
+    }
+
+    /**
+     * Inserts every element of {@code xs} in O(n + m), with the same rule as
+     * {@link PizzaJobMinHeap#insertAll}: a large batch is appended and
+     * rebuilt bottom-up, a small one is swum in element by element.
+     *
+     * @param xs the elements to insert
+     * @throws IllegalArgumentException if any element is null; the heap is
+     *         left unchanged in that case
+     */
+    public void insertAll(Collection<? extends T> xs) {
+        int m = xs.size();
+        if (n + m > keys.length - 1) resize(Math.max(2 * keys.length, n + m + 1));
+        int i = n;
+        for (T x : xs) {
+            if (x == null) {
+                for (int j = n + 1; j <= i; j++) {
+                    items[j] = null;
+                }
+                throw new IllegalArgumentException("Cannot insert null");
+            }
+            i++;
+            keys[i] = keyOf.applyAsLong(x);
+            items[i] = x;
+        }
+        long total = (long) n + m;
+        if ((long) m * (64 - Long.numberOfLeadingZeros(total)) >= total) {
+            n += m;
+            for (int k = (n + d - 2) / d; k >= 1; k--) {
+                sink(k);
+            }
+        } else {
+            for (int k = 0; k < m; k++) {
+                swim(++n);
+            }
+        }
+    }
+
+    @Override
+    public T min() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        return items[1];
+    }
+
+    /**
+     * Returns the key of the minimum element.
+     *
+     * @return the smallest key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long minKey() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        return keys[1];
+    }
+
+    @Override
+    public T delMin() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        T min = items[1];
+        keys[1] = keys[n];
+        items[1] = items[n];
+        items[n--] = null;  // avoid loitering
+        sink(1);
+        if (n > 0 && n == (keys.length - 1) / 4) resize(keys.length / 2);
+        return min;
+    }
+
+    @Override
+    public T replaceMin(T x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        T min = items[1];
+        keys[1] = keyOf.applyAsLong(x);
+        items[1] = x;
+        sink(1);
+        return min;
+    }
+
+    @Override
+    protected void swim(int k) {
+        while (k > 1) {
+            int parent = (k - 2) / d + 1;
+            if (!greater(parent, k)) break;
+            exch(k, parent);
+            k = parent;
+        }
+    }
+
+    @Override
+    protected void sink(int k) {
+        // nodes 1 .. ceil((n - 1) / d) have at least one child
+        while (k <= (n + d - 2) / d) {
+            int first = d * (k - 1) + 2;
+            int last = Math.min(first + d - 1, n);
+            int j = first;
+            for (int c = first + 1; c <= last; c++) {
+                if (greater(j, c)) j = c;
+            }
+            if (!greater(k, j)) break;
+            exch(k, j);
+            k = j;
+        }
+    }
+
+    @Override
+    protected boolean greater(int i, int j) {
+        return keys[i] > keys[j];
+    }
+
+    @Override
+    protected void exch(int i, int j) {
+        long swapKey = keys[i];
+        keys[i] = keys[j];
+        keys[j] = swapKey;
+        T swap = items[i];
+        items[i] = items[j];
+        items[j] = swap;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void resize(int newCap) {
+        long[] tempKeys = new long[newCap];
+        System.arraycopy(keys, 1, tempKeys, 1, n);
+        keys = tempKeys;
+        T[] tempItems = (T[]) new Object[newCap];
+        System.arraycopy(items, 1, tempItems, 1, n);
+        items = tempItems;
+    }
+
+    /**
+     * Orders two elements by their extracted keys. The heap itself never
+     * calls this on its hot path; it compares the stored keys instead.
+     */
+    @Override
+    protected int compare(T a, T b) {
+        return Long.compare(keyOf.applyAsLong(a), keyOf.applyAsLong(b));
+    }
+}
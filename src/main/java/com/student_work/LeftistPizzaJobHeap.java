@@ -0,0 +1,142 @@
+package com.student_work;
+
+/**
+ * Leftist min-heap of {@link PizzaJob}s ordered by cook time, for order
+ * queues that have to be merged.
+ *
+ * <p>Every node's left child has a null-path length (rank) at least as large
+ * as its right child's, so the right spine of a heap of n jobs has at most
+ * log2(n + 1) nodes. {@link #meld} walks only the two right spines, which
+ * makes merging two shards O(log n) instead of draining one into the other.
+ * insert and delMin are melds too.</p>
+ *
+ * <p>The heap is a linked tree, not an array, so the array hooks of
+ * {@link AbstractMinHeap} ({@code swim}, {@code sink}, {@code greater},
+ * {@code exch}, {@code resize}) are not supported.</p>
+ */
+public class LeftistPizzaJobHeap extends AbstractMinHeap<PizzaJob> {
+
+    private static final class Node {
+        final PizzaJob job;
+        final long cook;
+        Node left, right;
+        int rank = 1;       // length of the right spine below and including this node
+
+        Node(PizzaJob job) {
+            this.job = job;
+            this.cook = job.getCookTime();
+        }
+    }
+
+    private Node root;
+    private int n;          // number of jobs in heap
+
+    public LeftistPizzaJobHeap() {
+        root = null;
+        n = 0;
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        n = 0;
+    }
+
+    @Override
+    public void insert(PizzaJob x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        root = meld(root, new Node(x));
+        n++;
+    }
+
+    @Override
+    public PizzaJob min() {
+        if (isEmpty()) throw new IllegalStateException("Heap underflow");
+        return root.job;
+    }
+
+    @Override
+    public PizzaJob delMin() {
+        if (isEmpty()) throw new IllegalStateException("Heap underflow");
+        PizzaJob min = root.job;
+        root = meld(root.left, root.right);
+        n--;
+        return min;
+    }
+
+    /**
+     * Moves every job of {@code other} into this heap in O(log n) and leaves
+     * {@code other} empty.
+     *
+     * @param other the heap to merge into this one
+     * @throws IllegalArgumentException if {@code other} is this heap
+     */
+    public void meld(LeftistPizzaJobHeap other) {
+        if (other == this) throw new IllegalArgumentException("Cannot meld a heap with itself");
+        root = meld(root, other.root);
+        n += other.n;
+        other.clear();
+    }
+
+    /**
+     * Merges two leftist trees along their right spines, swapping children
+     * on the way back up wherever the leftist property would break.
+     */
+    private static Node meld(Node a, Node b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.cook > b.cook) {
+            Node swap = a;
+            a = b;
+            b = swap;
+        }
+        a.right = meld(a.right, b);
+        if (a.left == null || a.left.rank < a.right.rank) {
+            Node swap = a.left;
+            a.left = a.right;
+            a.right = swap;
+        }
+        a.rank = a.right == null ? 1 : a.right.rank + 1;
+        return a;
+    }
+
+    @Override
+    protected void swim(int k) {
+        throw new UnsupportedOperationException("Leftist heap has no array layout");
+    }
+
+    @Override
+    protected void sink(int k) {
+        throw new UnsupportedOperationException("Leftist heap has no array layout");
+    }
+
+    @Override
+    protected boolean greater(int i, int j) {
+        throw new UnsupportedOperationException("Leftist heap has no array layout");
+    }
+
+    @Override
+    protected void exch(int i, int j) {
+        throw new UnsupportedOperationException("Leftist heap has no array layout");
+    }
+
+    @Override
+    protected void resize(int newCap) {
+        throw new UnsupportedOperationException("Leftist heap has no array layout");
+    }
+
+    @Override
+    protected int compare(PizzaJob a, PizzaJob b) {
+        return Long.compare(a.getCookTime(), b.getCookTime());
+    }
+}
@@ -0,0 +1,223 @@
+package com.student_work;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Double-ended heap of primitive {@code long} keys that serves both the
+ * smallest and the largest key in O(log n) from a single array.
+ *
+ * <p>This is a min-max heap: a 1-indexed binary tree whose even levels
+ * (root at level 0) are min levels and whose odd levels are max levels. A
+ * node on a min level is no larger than anything below it, and a node on a
+ * max level is no smaller. The minimum is therefore the root and the
+ * maximum is one of its two children. {@code swim} and {@code sink} compare
+ * against grandparents and grandchildren, flipping direction with the
+ * node's level.</p>
+ */
+public class MinMaxLongHeap extends AbstractMinHeap<Long> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] heap;  // 1-indexed: heap[0] is unused
+    private int n;        // number of elements (not including heap[0])
+
+    public MinMaxLongHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MinMaxLongHeap(int capacity) {
+        heap = new long[Math.max(capacity, 1) + 1];
+        n = 0;
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    @Override
+    public void clear() {
+        n = 0;
+    }
+
+    @Override
+    public void insert(Long x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        insertLong(x);
+    }
+
+    @Override
+    public Long min() {
+        return minLong();
+    }
+
+    @Override
+    public Long delMin() {
+        return delMinLong();
+    }
+
+    /**
+     * Returns the largest key without removing it.
+     *
+     * @return the maximum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public Long max() {
+        return maxLong();
+    }
+
+    /**
+     * Removes and returns the largest key.
+     *
+     * @return the maximum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public Long delMax() {
+        return delMaxLong();
+    }
+
+    public void insertLong(long x) {
+        if (n == heap.length - 1) resize(2 * heap.length);
+        heap[++n] = x;
+        swim(n);
+    }
+
+    public long minLong() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        return heap[1];
+    }
+
+    public long maxLong() {
+        return heap[maxIndex()];
+    }
+
+    public long delMinLong() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        return removeAt(1);
+    }
+
+    public long delMaxLong() {
+        return removeAt(maxIndex());
+    }
+
+    private int maxIndex() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        if (n == 1) return 1;
+        if (n == 2) return 2;
+        return heap[2] >= heap[3] ? 2 : 3;
+    }
+
+    private long removeAt(int k) {
+        long x = heap[k];
+        heap[k] = heap[n--];
+        if (k <= n) sink(k);
+        if (n > 0 && n == (heap.length - 1) / 4) resize(heap.length / 2);
+        return x;
+    }
+
+    private static boolean isMinLevel(int k) {
+        return ((31 - Integer.numberOfLeadingZeros(k)) & 1) == 0;
+    }
+
+    /**
+     * Moves the key at k toward the root. A key that belongs on the other
+     * kind of level first swaps with its parent, then climbs grandparents.
+     */
+    @Override
+    protected void swim(int k) {
+        if (k == 1) return;
+        int parent = k / 2;
+        if (isMinLevel(k)) {
+            if (greater(k, parent)) {
+                exch(k, parent);
+                swimMax(parent);
+            } else {
+                swimMin(k);
+            }
+        } else {
+            if (greater(parent, k)) {
+                exch(k, parent);
+                swimMin(parent);
+            } else {
+                swimMax(k);
+            }
+        }
+    }
+
+    private void swimMin(int k) {
+        while (k > 3 && greater(k / 4, k)) {
+            exch(k, k / 4);
+            k = k / 4;
+        }
+    }
+
+    private void swimMax(int k) {
+        while (k > 3 && greater(k, k / 4)) {
+            exch(k, k / 4);
+            k = k / 4;
+        }
+    }
+
+    /**
+     * Moves the key at k toward the leaves, comparing it with the smallest
+     * (min level) or largest (max level) of its children and grandchildren.
+     */
+    @Override
+    protected void sink(int k) {
+        boolean min = isMinLevel(k);
+        while (2 * k <= n) {
+            int m = extremeDescendant(k, min);
+            if (m >= 4 * k) {
+                // m is a grandchild
+                if (min ? !greater(k, m) : !greater(m, k)) return;
+                exch(k, m);
+                int parent = m / 2;
+                if (min ? greater(m, parent) : greater(parent, m)) exch(m, parent);
+                k = m;
+            } else {
+                // m is a child: it beat every grandchild, so nothing below it is out of order
+                if (min ? greater(k, m) : greater(m, k)) exch(k, m);
+                return;
+            }
+        }
+    }
+
+    /** Index of the smallest (or largest) child or grandchild of k. */
+    private int extremeDescendant(int k, boolean min) {
+        int m = 2 * k;
+        if (m < n && (min ? greater(m, m + 1) : greater(m + 1, m))) m++;
+        int last = Math.min(4 * k + 3, n);
+        for (int c = 4 * k; c <= last; c++) {
+            if (min ? greater(m, c) : greater(c, m)) m = c;
+        }
+        return m;
+    }
+
+    @Override
+    protected boolean greater(int i, int j) {
+        return heap[i] > heap[j];
+    }
+
+    @Override
+    protected void exch(int i, int j) {
+        long swap = heap[i];
+        heap[i] = heap[j];
+        heap[j] = swap;
+    }
+
+    @Override
+    protected void resize(int newCap) {
+        long[] temp = new long[newCap];
+        System.arraycopy(heap, 1, temp, 1, n);
+        heap = temp;
+    }
+
+    @Override
+    protected int compare(Long a, Long b) {
+        return Long.compare(a, b);
+    }
+}
@@ -0,0 +1,237 @@
+package com.student_work;
+
+/**
+ * Double-ended heap of {@link PizzaJob}s that serves both the shortest and
+ * the longest queued job in O(log n) from a single set of arrays.
+ *
+ * <p>This is a min-max heap ordered by cook time, laid out like
+ * {@link MinMaxLongHeap}: even levels of the 1-indexed binary tree are min
+ * levels, odd levels are max levels, the shortest job is the root and the
+ * longest is one of its children. Jobs are stored as parallel cook and
+ * arrival arrays, as in {@link PizzaJobMinHeap}, so callers get a new job
+ * with the same arrival and cook times back, not the instance they
+ * inserted.</p>
+ */
+public class MinMaxPizzaJobHeap extends AbstractMinHeap<PizzaJob> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] cook;        // 1-indexed: cook[0] is unused
+    private long[] arrival;     // arrival[k] belongs to the job at cook[k]
+    private int n;              // number of elements in heap
+
+    public MinMaxPizzaJobHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MinMaxPizzaJobHeap(int capacity) {
+        cook = new long[Math.max(capacity, 1) + 1];
+        arrival = new long[cook.length];
+        n = 0;
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    @Override
+    public void clear() {
+        n = 0;
+    }
+
+    @Override
+    public void insert(PizzaJob x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        if (n == cook.length - 1) resize(2 * cook.length);
+        n++;
+        cook[n] = x.getCookTime();
+        arrival[n] = x.getArrivalTime();
+        swim(n);
+    }
+
+    @Override
+    public PizzaJob min() {
+        if (isEmpty()) throw new IllegalStateException("Heap underflow");
+        return new PizzaJob(arrival[1], cook[1]);
+    }
+
+    @Override
+    public PizzaJob delMin() {
+        PizzaJob min = min();
+        removeAt(1);
+        return min;
+    }
+
+    /**
+     * Returns the job with the longest cook time without removing it.
+     *
+     * @return the maximum job
+     * @throws IllegalStateException if the heap is empty
+     */
+    public PizzaJob max() {
+        int k = maxIndex();
+        return new PizzaJob(arrival[k], cook[k]);
+    }
+
+    /**
+     * Removes and returns the job with the longest cook time.
+     *
+     * @return the maximum job
+     * @throws IllegalStateException if the heap is empty
+     */
+    public PizzaJob delMax() {
+        int k = maxIndex();
+        PizzaJob max = new PizzaJob(arrival[k], cook[k]);
+        removeAt(k);
+        return max;
+    }
+
+    /**
+     * Returns the shortest cook time without creating a job.
+     *
+     * @return the smallest cook time
+     * @throws IllegalStateException if the heap is empty
+     */
+    public long minCookTime() {
+        if (isEmpty()) throw new IllegalStateException("Heap underflow");
+        return cook[1];
+    }
+
+    /**
+     * Returns the longest cook time without creating a job.
+     *
+     * @return the largest cook time
+     * @throws IllegalStateException if the heap is empty
+     */
+    public long maxCookTime() {
+        return cook[maxIndex()];
+    }
+
+    private int maxIndex() {
+        if (isEmpty()) throw new IllegalStateException("Heap underflow");
+        if (n == 1) return 1;
+        if (n == 2) return 2;
+        return cook[2] >= cook[3] ? 2 : 3;
+    }
+
+    private void removeAt(int k) {
+        cook[k] = cook[n];
+        arrival[k] = arrival[n];
+        n--;
+        if (k <= n) sink(k);
+        if (n > 0 && n == (cook.length - 1) / 4) resize(cook.length / 2);
+    }
+
+    private static boolean isMinLevel(int k) {
+        return ((31 - Integer.numberOfLeadingZeros(k)) & 1) == 0;
+    }
+
+    /**
+     * Moves the key at k toward the root. A key that belongs on the other
+     * kind of level first swaps with its parent, then climbs grandparents.
+     */
+    @Override
+    protected void swim(int k) {
+        if (k == 1) return;
+        int parent = k / 2;
+        if (isMinLevel(k)) {
+            if (greater(k, parent)) {
+                exch(k, parent);
+                swimMax(parent);
+            } else {
+                swimMin(k);
+            }
+        } else {
+            if (greater(parent, k)) {
+                exch(k, parent);
+                swimMin(parent);
+            } else {
+                swimMax(k);
+            }
+        }
+    }
+
+    private void swimMin(int k) {
+        while (k > 3 && greater(k / 4, k)) {
+            exch(k, k / 4);
+            k = k / 4;
+        }
+    }
+
+    private void swimMax(int k) {
+        while (k > 3 && greater(k, k / 4)) {
+            exch(k, k / 4);
+            k = k / 4;
+        }
+    }
+
+    /**
+     * Moves the key at k toward the leaves, comparing it with the smallest
+     * (min level) or largest (max level) of its children and grandchildren.
+     */
+    @Override
+    protected void sink(int k) {
+        boolean min = isMinLevel(k);
+        while (2 * k <= n) {
+            int m = extremeDescendant(k, min);
+            if (m >= 4 * k) {
+                // m is a grandchild
+                if (min ? !greater(k, m) : !greater(m, k)) return;
+                exch(k, m);
+                int parent = m / 2;
+                if (min ? greater(m, parent) : greater(parent, m)) exch(m, parent);
+                k = m;
+            } else {
+                // m is a child: it beat every grandchild, so nothing below it is out of order
+                if (min ? greater(k, m) : greater(m, k)) exch(k, m);
+                return;
+            }
+        }
+    }
+
+    /** Index of the smallest (or largest) child or grandchild of k. */
+    private int extremeDescendant(int k, boolean min) {
+        int m = 2 * k;
+        if (m < n && (min ? greater(m, m + 1) : greater(m + 1, m))) m++;
+        int last = Math.min(4 * k + 3, n);
+        for (int c = 4 * k; c <= last; c++) {
+            if (min ? greater(m, c) : greater(c, m)) m = c;
+        }
+        return m;
+    }
+
+    @Override
+    protected boolean greater(int i, int j) {
+        return cook[i] > cook[j];
+    }
+
+    @Override
+    protected void exch(int i, int j) {
+        long swap = cook[i];
+        cook[i] = cook[j];
+        cook[j] = swap;
+        swap = arrival[i];
+        arrival[i] = arrival[j];
+        arrival[j] = swap;
+    }
+
+    @Override
+    protected void resize(int newCap) {
+        long[] temp = new long[newCap];
+        System.arraycopy(cook, 1, temp, 1, n);
+        cook = temp;
+        temp = new long[newCap];
+        System.arraycopy(arrival, 1, temp, 1, n);
+        arrival = temp;
+    }
+
+    @Override
+    protected int compare(PizzaJob a, PizzaJob b) {
+        return Long.compare(a.getCookTime(), b.getCookTime());
+    }
+}
@@ -0,0 +1,268 @@
+package com.student_work;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.NoSuchElementException;
+
+/**
+ * Min-heap of primitive {@code long} keys stored outside the Java heap.
+ *
+ * <p>Keys live in fixed-size direct {@link ByteBuffer} chunks addressed by a
+ * {@code long} position, so the heap can hold more than 2^31 keys and adds
+ * nothing for the garbage collector to trace. Growing allocates one more
+ * chunk and never copies. The tree is 4-ary, like the default
+ * {@link LongMinHeap}, and 1-indexed, so position 0 is unused.</p>
+ *
+ * <p>Direct memory is capped by {@code -XX:MaxDirectMemorySize}, which
+ * defaults to the maximum Java heap size; raise it for very large heaps.
+ * Call {@link #close()} to free the chunks right away instead of waiting for
+ * the GC to notice the buffers are unreachable.</p>
+ */
+public class OffHeapLongMinHeap extends AbstractMinHeap<Long> implements AutoCloseable {
+    private static final int ARITY = 4;
+    private static final int DEFAULT_CHUNK_BITS = 20;   // 2^20 longs = 8 MiB per chunk
+    private static final int MAX_CHUNK_BITS = 27;       // 8 << 27 bytes is the largest chunk an int size can hold
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> c = Class.forName("sun.misc.Unsafe");
+            Field f = c.getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            unsafe = f.get(null);
+            invokeCleaner = c.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // no explicit free on this JVM; chunks are released when collected
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private final int chunkBits;
+    private final long chunkMask;
+    private ByteBuffer[] chunks;
+    private int chunkCount;     // number of allocated chunks
+    private long n;             // number of elements
+    private boolean closed;
+
+    public OffHeapLongMinHeap() {
+        this(DEFAULT_CHUNK_BITS);
+    }
+
+    /**
+     * Creates an empty heap whose chunks each hold {@code 2^chunkBits} keys.
+     *
+     * @param chunkBits log2 of the keys per chunk, between 4 and 27
+     * @throws IllegalArgumentException if {@code chunkBits} is out of range
+     */
+    public OffHeapLongMinHeap(int chunkBits) {
+        if (chunkBits < 4 || chunkBits > MAX_CHUNK_BITS) {
+            throw new IllegalArgumentException("chunkBits must be between 4 and " + MAX_CHUNK_BITS + ": " + chunkBits);
+        }
+        this.chunkBits = chunkBits;
+        this.chunkMask = (1L << chunkBits) - 1;
+        chunks = new ByteBuffer[4];
+        chunkCount = 0;
+        n = 0;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(n, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the exact number of keys, which may exceed {@code Integer.MAX_VALUE}.
+     *
+     * @return the size of the heap
+     */
+    public long sizeLong() {
+        return n;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Empties the heap and frees every chunk but the first.
+     */
+    @Override
+    public void clear() {
+        checkOpen();
+        n = 0;
+        while (chunkCount > 1) {
+            free(chunks[--chunkCount]);
+            chunks[chunkCount] = null;
+        }
+    }
+
+    @Override
+    public void insert(Long x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        insertLong(x);
+    }
+
+    @Override
+    public Long min() {
+        return minLong();
+    }
+
+    @Override
+    public Long delMin() {
+        return delMinLong();
+    }
+
+    public void insertLong(long x) {
+        checkOpen();
+        ensureCapacity(n + 1);
+        set(++n, x);
+        swim(n);
+    }
+
+    public long minLong() {
+        checkOpen();
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        return get(1);
+    }
+
+    public long delMinLong() {
+        checkOpen();
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        long min = get(1);
+        set(1, get(n--));
+        sink(1);
+        // keep one spare chunk so an insert/delMin pair at a boundary does not thrash
+        if (chunkCount > 2 && n < ((long) (chunkCount - 2) << chunkBits)) {
+            free(chunks[--chunkCount]);
+            chunks[chunkCount] = null;
+        }
+        return min;
+    }
+
+    /**
+     * Frees all off-heap memory. The heap cannot be used afterwards.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        for (int i = 0; i < chunkCount; i++) {
+            free(chunks[i]);
+            chunks[i] = null;
+        }
+        chunkCount = 0;
+        n = 0;
+        closed = true;
+    }
+
+    private void checkOpen() {
+        if (closed) throw new IllegalStateException("Heap is closed");
+    }
+
+    private long get(long i) {
+        return chunks[(int) (i >>> chunkBits)].getLong((int) (i & chunkMask) << 3);
+    }
+
+    private void set(long i, long v) {
+        chunks[(int) (i >>> chunkBits)].putLong((int) (i & chunkMask) << 3, v);
+    }
+
+    /** Allocates chunks until position {@code last} is addressable. */
+    private void ensureCapacity(long last) {
+        while (last >= ((long) chunkCount << chunkBits)) {
+            if (chunkCount == chunks.length) {
+                ByteBuffer[] temp = new ByteBuffer[2 * chunks.length];
+                System.arraycopy(chunks, 0, temp, 0, chunkCount);
+                chunks = temp;
+            }
+            chunks[chunkCount++] = ByteBuffer.allocateDirect(8 << chunkBits).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    private static void free(ByteBuffer chunk) {
+        if (INVOKE_CLEANER == null) return;
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, chunk);
+        } catch (ReflectiveOperationException e) {
+            // leave it to the GC
+        }
+    }
+
+    @Override
+    protected void swim(int k) {
+        swim((long) k);
+    }
+
+    private void swim(long k) {
+        long x = get(k);
+        while (k > 1) {
+            long parent = (k - 2) / ARITY + 1;
+            long p = get(parent);
+            if (p <= x) break;
+            set(k, p);
+            k = parent;
+        }
+        set(k, x);
+    }
+
+    @Override
+    protected void sink(int k) {
+        sink((long) k);
+    }
+
+    private void sink(long k) {
+        long x = get(k);
+        // nodes 1 .. ceil((n - 1) / d) have at least one child
+        while (k <= (n + ARITY - 2) / ARITY) {
+            long first = ARITY * (k - 1) + 2;
+            long last = Math.min(first + ARITY - 1, n);
+            long j = first;
+            long min = get(first);
+            for (long c = first + 1; c <= last; c++) {
+                long v = get(c);
+                if (v < min) {
+                    min = v;
+                    j = c;
+                }
+            }
+            if (x <= min) break;
+            set(k, min);
+            k = j;
+        }
+        set(k, x);
+    }
+
+    @Override
+    protected boolean greater(int i, int j) {
+        return get(i) > get(j);
+    }
+
+    @Override
+    protected void exch(int i, int j) {
+        long swap = get(i);
+        set(i, get(j));
+        set(j, swap);
+    }
+
+    /**
+     * Makes room for {@code newCap - 1} keys. Off-heap storage grows one chunk
+     * at a time, so this only ever adds chunks; it never copies keys.
+     */
+    @Override
+    protected void resize(int newCap) {
+        checkOpen();
+        ensureCapacity(newCap - 1L);
+    }
+
+    @Override
+    protected int compare(Long a, Long b) {
+        return Long.compare(a, b);
+    }
+}
@@ -0,0 +1,277 @@
+package com.student_work;
+
+import java.util.Collection;
+
+/**
+ * Pairing min-heap of {@link PizzaJob}s ordered by cook time, for bursts of
+ * orders arriving between deletions.
+ *
+ * <p>insert links the new job with the root in O(1). delMin removes the
+ * root and melds its children in two passes (pair them left to right, then
+ * fold the pairs right to left), which is amortized O(log n). A burst of
+ * inserts therefore costs nothing until the next delMin.</p>
+ *
+ * <p>Nodes live in a primitive arena rather than as objects: node i is
+ * {@code cook[i]}, {@code arrival[i]}, {@code child[i]} (its first child)
+ * and {@code sibling[i]} (its next sibling). Freed nodes are chained through
+ * {@code sibling} and reused, and the arena only grows, so a steady stream
+ * of orders allocates nothing. Like {@link PizzaJobMinHeap}, jobs are
+ * rebuilt by {@link #min()} and {@link #delMin()}; use
+ * {@link #minCookTime()}, {@link #minArrivalTime()} and {@link #removeMin()}
+ * to avoid that.</p>
+ *
+ * <p>The heap is a tree of links, not an implicit array, so the array hooks
+ * of {@link AbstractMinHeap} are not supported.</p>
+ */
+public class PairingPizzaJobHeap extends AbstractMinHeap<PizzaJob> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int NIL = -1;
+
+    private long[] cook;        // node -> cook time
+    private long[] arrival;     // node -> arrival time
+    private int[] child;        // node -> first child, or NIL
+    private int[] sibling;      // node -> next sibling, or next free node
+    private int root;           // node holding the minimum, or NIL
+    private int freeHead;       // first free node, or NIL
+    private int nextNode;       // lowest node never used
+    private int n;              // number of jobs in heap
+
+    public PairingPizzaJobHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty heap whose arena starts with room for
+     * {@code capacity} jobs.
+     *
+     * @param capacity the initial arena size
+     */
+    public PairingPizzaJobHeap(int capacity) {
+        int cap = Math.max(capacity, 1);
+        cook = new long[cap];
+        arrival = new long[cap];
+        child = new int[cap];
+        sibling = new int[cap];
+        root = NIL;
+        freeHead = NIL;
+        nextNode = 0;
+        n = 0;
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Empties the heap. The arena keeps its size for reuse.
+     */
+    @Override
+    public void clear() {
+        root = NIL;
+        freeHead = NIL;
+        nextNode = 0;
+        n = 0;
+    }
+
+    @Override
+    public void insert(PizzaJob x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        insert(x.getArrivalTime(), x.getCookTime());
+    }
+
+    /**
+     * Inserts a job given as its two fields, in O(1) and without allocating
+     * once the arena is large enough.
+     *
+     * @param arrivalTime the job's arrival time
+     * @param cookTime    the job's cook time
+     */
+    public void insert(long arrivalTime, long cookTime) {
+        int node = allocate();
+        cook[node] = cookTime;
+        arrival[node] = arrivalTime;
+        child[node] = NIL;
+        sibling[node] = NIL;
+        root = root == NIL ? node : link(root, node);
+        n++;
+    }
+
+    /**
+     * Inserts every job in {@code jobs}, each in O(1).
+     *
+     * @param jobs the jobs to insert
+     * @throws IllegalArgumentException if {@code jobs} contains null; no job
+     *                                  is inserted in that case
+     */
+    public void insertAll(Collection<? extends PizzaJob> jobs) {
+        for (PizzaJob job : jobs) {
+            if (job == null) throw new IllegalArgumentException("Cannot insert null");
+        }
+        for (PizzaJob job : jobs) {
+            insert(job.getArrivalTime(), job.getCookTime());
+        }
+    }
+
+    @Override
+    public PizzaJob min() {
+        if (isEmpty()) throw new IllegalStateException("Heap underflow");
+        return new PizzaJob(arrival[root], cook[root]);
+    }
+
+    @Override
+    public PizzaJob delMin() {
+        if (isEmpty()) throw new IllegalStateException("Heap underflow");
+        PizzaJob min = new PizzaJob(arrival[root], cook[root]);
+        removeMin();
+        return min;
+    }
+
+    /**
+     * Returns the cook time of the minimum job without building a PizzaJob.
+     *
+     * @return the smallest cook time
+     * @throws IllegalStateException if the heap is empty
+     */
+    public long minCookTime() {
+        if (isEmpty()) throw new IllegalStateException("Heap underflow");
+        return cook[root];
+    }
+
+    /**
+     * Returns the arrival time of the minimum job without building a PizzaJob.
+     *
+     * @return the arrival time of the job with the smallest cook time
+     * @throws IllegalStateException if the heap is empty
+     */
+    public long minArrivalTime() {
+        if (isEmpty()) throw new IllegalStateException("Heap underflow");
+        return arrival[root];
+    }
+
+    /**
+     * Removes the minimum job without building a PizzaJob.
+     *
+     * @throws IllegalStateException if the heap is empty
+     */
+    public void removeMin() {
+        if (isEmpty()) throw new IllegalStateException("Heap underflow");
+        int old = root;
+        root = mergePairs(child[old]);
+        release(old);
+        n--;
+    }
+
+    /**
+     * Melds a list of sibling subtrees into one tree: first link them in
+     * pairs from left to right, then fold the pairs together from right to
+     * left. Both passes are loops, so deep trees cannot overflow the stack.
+     */
+    private int mergePairs(int first) {
+        // pass 1: pair up left to right, pushing each result onto a list that ends up reversed
+        int paired = NIL;
+        while (first != NIL) {
+            int a = first;
+            int b = sibling[a];
+            if (b == NIL) {
+                sibling[a] = paired;
+                paired = a;
+                break;
+            }
+            first = sibling[b];
+            int m = link(a, b);
+            sibling[m] = paired;
+            paired = m;
+        }
+        // pass 2: the list is reversed, so walking it folds right to left
+        int result = NIL;
+        while (paired != NIL) {
+            int next = sibling[paired];
+            sibling[paired] = NIL;
+            result = result == NIL ? paired : link(result, paired);
+            paired = next;
+        }
+        return result;
+    }
+
+    /**
+     * Makes the root with the larger cook time the first child of the other
+     * and returns the winner. The loser's sibling link is overwritten; the
+     * winner's is left for the caller.
+     */
+    private int link(int a, int b) {
+        if (cook[b] < cook[a]) {
+            int swap = a;
+            a = b;
+            b = swap;
+        }
+        sibling[b] = child[a];
+        child[a] = b;
+        return a;
+    }
+
+    private int allocate() {
+        if (freeHead != NIL) {
+            int node = freeHead;
+            freeHead = sibling[node];
+            return node;
+        }
+        if (nextNode == cook.length) grow(2 * cook.length);
+        return nextNode++;
+    }
+
+    private void release(int node) {
+        sibling[node] = freeHead;
+        freeHead = node;
+    }
+
+    private void grow(int newCap) {
+        long[] tempCook = new long[newCap];
+        System.arraycopy(cook, 0, tempCook, 0, nextNode);
+        cook = tempCook;
+        long[] tempArrival = new long[newCap];
+        System.arraycopy(arrival, 0, tempArrival, 0, nextNode);
+        arrival = tempArrival;
+        int[] tempChild = new int[newCap];
+        System.arraycopy(child, 0, tempChild, 0, nextNode);
+        child = tempChild;
+        int[] tempSibling = new int[newCap];
+        System.arraycopy(sibling, 0, tempSibling, 0, nextNode);
+        sibling = tempSibling;
+    }
+
+    @Override
+    protected void swim(int k) {
+        throw new UnsupportedOperationException("Pairing heap has no array layout");
+    }
+
+    @Override
+    protected void sink(int k) {
+        throw new UnsupportedOperationException("Pairing heap has no array layout");
+    }
+
+    @Override
+    protected boolean greater(int i, int j) {
+        throw new UnsupportedOperationException("Pairing heap has no array layout");
+    }
+
+    @Override
+    protected void exch(int i, int j) {
+        throw new UnsupportedOperationException("Pairing heap has no array layout");
+    }
+
+    @Override
+    protected void resize(int newCap) {
+        throw new UnsupportedOperationException("Pairing heap has no array layout");
+    }
+
+    @Override
+    protected int compare(PizzaJob a, PizzaJob b) {
+        return Long.compare(a.getCookTime(), b.getCookTime());
+    }
+}
@@ -1,21 +1,24 @@
 package com.student_work;
 
 public class PizzaJob {
+    private final long arrivalTime;
+    private final long cookTime;
 
     public PizzaJob(long arrivalTime, long cookTime) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        this.arrivalTime = arrivalTime;
+        this.cookTime = cookTime;
     }
 
     public long getArrivalTime() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return arrivalTime;
     }
 
     public long getCookTime() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return cookTime;
     }
 
     @Override
     public String toString() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return "PizzaJob(arrival=" + arrivalTime + ", cook=" + cookTime + ")";
     }
-}
\ No newline at end of file
+}
@@ -5,12 +5,192 @@ import edu.princeton.cs.algs4.StdIn;
 import java.util.*;
 
 public class PizzaSolver {
+    // use a BucketMinHeap when the longest cook time is at most this many buckets per job (plus a small fixed allowance)
+    private static final long BUCKETS_PER_JOB = 8;
+    private static final long BUCKET_ALLOWANCE = 1 << 16;
 
     public static void main(String[] args) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        int n = StdIn.readInt();
+        List<PizzaJob> jobs = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            long arrival = StdIn.readLong();
+            long cook = StdIn.readLong();
+            jobs.add(new PizzaJob(arrival, cook));
+        }
+        System.out.println(minimumAverageWaitTime(jobs));
     }
 
     public static long minimumAverageWaitTime(List<PizzaJob> jobs) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        int n = jobs.size();
+        if (n == 0) return 0;
+
+        List<PizzaJob> byArrival = new ArrayList<>(jobs);
+        byArrival.sort(Comparator.comparingLong(PizzaJob::getArrivalTime));
+        int range = bucketRange(byArrival);
+        if (range > 0) return minimumAverageWaitTimeBucketed(byArrival, range);
+
+        PizzaJobMinHeap waiting = new PizzaJobMinHeap(n);
+        long time = 0;
+        // the total wait can exceed Long.MAX_VALUE, so keep it as quotient and remainder of n
+        long avg = 0;
+        long rem = 0;
+        int next = 0;
+        while (next < n || !waiting.isEmpty()) {
+            if (waiting.isEmpty() && time < byArrival.get(next).getArrivalTime()) {
+                time = byArrival.get(next).getArrivalTime();
+            }
+            // everyone who has arrived by now joins the queue in one batch
+            int from = next;
+            while (next < n && byArrival.get(next).getArrivalTime() <= time) {
+                next++;
+            }
+            if (next > from) waiting.insertAll(byArrival.subList(from, next));
+
+            time += waiting.minCookTime();
+            long wait = time - waiting.minArrivalTime();
+            waiting.removeMin();
+            avg += wait / n;
+            rem += wait % n;
+            if (rem >= n) {
+                avg += rem / n;
+                rem %= n;
+            }
+        }
+        return avg;
+    }
+
+    /**
+     * Result of {@link #approximateAverageWaitTime}: the average wait of the
+     * schedule that was run, and how far it strayed from shortest-first order.
+     */
+    public static final class ApproximateWait {
+        private final long averageWait;
+        private final long maxPassedOver;
+
+        private ApproximateWait(long averageWait, long maxPassedOver) {
+            this.averageWait = averageWait;
+            this.maxPassedOver = maxPassedOver;
+        }
+
+        /** Returns the average wait, rounded down like {@link #minimumAverageWaitTime}. */
+        public long averageWait() {
+            return averageWait;
+        }
+
+        /**
+         * Returns the most waiting jobs that could have been shorter than the
+         * job picked, over every pick. Zero means the schedule was exactly
+         * shortest-first.
+         */
+        public long maxPassedOver() {
+            return maxPassedOver;
+        }
+    }
+
+    /**
+     * Runs the same schedule as {@link #minimumAverageWaitTime} with a
+     * {@link SoftHeap} as the queue, for very large runs where exact
+     * shortest-first order is not needed. The queue picks each next job in
+     * amortized O(1). Each pick passes over at most the queue's corrupted
+     * jobs, of which there are never more than {@code epsilon} times the
+     * jobs queued so far.
+     *
+     * @param jobs    the jobs to schedule
+     * @param epsilon the soft heap error rate, in (0, 1/2]
+     * @return the average wait and the largest number of jobs passed over by one pick
+     * @throws IllegalArgumentException if {@code epsilon} is out of range
+     */
+    public static ApproximateWait approximateAverageWaitTime(List<PizzaJob> jobs, double epsilon) {
+        SoftHeap<PizzaJob> waiting = new SoftHeap<>(PizzaJob::getCookTime, epsilon);
+        int n = jobs.size();
+        if (n == 0) return new ApproximateWait(0, 0);
+
+        List<PizzaJob> byArrival = new ArrayList<>(jobs);
+        byArrival.sort(Comparator.comparingLong(PizzaJob::getArrivalTime));
+        long time = 0;
+        long avg = 0;
+        long rem = 0;
+        long maxPassedOver = 0;
+        int next = 0;
+        while (next < n || !waiting.isEmpty()) {
+            if (waiting.isEmpty() && time < byArrival.get(next).getArrivalTime()) {
+                time = byArrival.get(next).getArrivalTime();
+            }
+            while (next < n && byArrival.get(next).getArrivalTime() <= time) {
+                waiting.insert(byArrival.get(next++));
+            }
+
+            maxPassedOver = Math.max(maxPassedOver, waiting.corrupted());
+            PizzaJob job = waiting.delMin();
+            time += job.getCookTime();
+            long wait = time - job.getArrivalTime();
+            avg += wait / n;
+            rem += wait % n;
+            if (rem >= n) {
+                avg += rem / n;
+                rem %= n;
+            }
+        }
+        return new ApproximateWait(avg, maxPassedOver);
+    }
+
+    /**
+     * Returns one more than the longest cook time if every cook time fits a
+     * bucket per value and the range is small next to the job count, or 0
+     * if it does not. Negative arrival times also rule buckets out, since the
+     * arrival sum below assumes non-negative remainders.
+     */
+    private static int bucketRange(List<PizzaJob> jobs) {
+        long limit = BUCKETS_PER_JOB * jobs.size() + BUCKET_ALLOWANCE;
+        long max = 0;
+        for (PizzaJob job : jobs) {
+            long cook = job.getCookTime();
+            if (cook < 0 || cook >= limit || job.getArrivalTime() < 0) return 0;
+            max = Math.max(max, cook);
+        }
+        return (int) max + 1;
+    }
+
+    /**
+     * Same schedule as above with only cook times queued. The total wait is
+     * the sum of finish times minus the sum of arrival times, and jobs with
+     * equal cook times are interchangeable, so which job finishes when never
+     * needs to be known.
+     */
+    private static long minimumAverageWaitTimeBucketed(List<PizzaJob> byArrival, int range) {
+        int n = byArrival.size();
+        BucketMinHeap cookTimes = new BucketMinHeap(range);
+        long time = 0;
+        // finish and arrival sums as quotient and remainder of n, like the wait sum above
+        long finishAvg = 0;
+        long finishRem = 0;
+        long arrivalAvg = 0;
+        long arrivalRem = 0;
+        int next = 0;
+        while (next < n || !cookTimes.isEmpty()) {
+            if (cookTimes.isEmpty() && time < byArrival.get(next).getArrivalTime()) {
+                time = byArrival.get(next).getArrivalTime();
+            }
+            while (next < n && byArrival.get(next).getArrivalTime() <= time) {
+                PizzaJob job = byArrival.get(next++);
+                cookTimes.insertLong(job.getCookTime());
+                long arrival = job.getArrivalTime();
+                arrivalAvg += arrival / n;
+                arrivalRem += arrival % n;
+                if (arrivalRem >= n) {
+                    arrivalAvg += arrivalRem / n;
+                    arrivalRem %= n;
+                }
+            }
+
+            time += cookTimes.delMinLong();
+            finishAvg += time / n;
+            finishRem += time % n;
+            if (finishRem >= n) {
+                finishAvg += finishRem / n;
+                finishRem %= n;
+            }
+        }
+        return finishAvg - arrivalAvg + Math.floorDiv(finishRem - arrivalRem, n);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,204 @@
+package com.student_work;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Monotone min-heap of {@code long} keys: a key may only be inserted if it
+ * is at least the last minimum removed. Workloads whose minimums never go
+ * down, such as {@link CookieSolver} (a mixed cookie is at least as sweet
+ * as either input) or event times in a simulation, fit this contract.
+ *
+ * <p>This is a radix heap. Keys sit in 65 buckets according to the highest
+ * bit in which they differ from {@code last}, the last minimum removed:
+ * bucket 0 holds keys equal to {@code last}, and bucket i holds keys whose
+ * highest differing bit is bit i - 1. Every key in bucket i is smaller than
+ * every key in bucket i + 1. insert is an append. When bucket 0 runs dry,
+ * delMin finds the first non-empty bucket, takes its smallest key as the
+ * new {@code last} and redistributes the bucket into lower ones. A key only
+ * ever moves down, so each key is moved at most 64 times, which gives
+ * amortized O(log C) per operation for keys spanning a range of C.</p>
+ *
+ * <p>min only peeks: it reads the smallest key of the first non-empty
+ * bucket without moving {@code last}, so peeking never raises the floor.
+ * The result is cached until the next delMin, and inserts keep it
+ * current.</p>
+ *
+ * <p>{@link #clear()} also resets the floor, so any key may be inserted
+ * next.</p>
+ */
+public class RadixLongHeap extends AbstractMinHeap<Long> {
+    private static final int BUCKETS = 65;
+    private static final int INITIAL_BUCKET_CAPACITY = 4;
+
+    private final long[][] buckets = new long[BUCKETS][];
+    private final int[] counts = new int[BUCKETS];
+    private long last;      // the last minimum removed; no smaller key may be inserted
+    private int n;          // number of keys in all buckets
+    private long peeked;    // smallest key as of the last min, kept until the next delMin
+    private boolean hasPeeked;
+
+    public RadixLongHeap() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new long[INITIAL_BUCKET_CAPACITY];
+        }
+        last = Long.MIN_VALUE;
+        n = 0;
+    }
+
+    /**
+     * Returns the smallest key that may still be inserted.
+     *
+     * @return the last minimum removed, or {@code Long.MIN_VALUE} if none has been
+     */
+    public long floor() {
+        return last;
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = 0;
+        }
+        last = Long.MIN_VALUE;
+        n = 0;
+        hasPeeked = false;
+    }
+
+    @Override
+    public void insert(Long x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        insertLong(x);
+    }
+
+    @Override
+    public Long min() {
+        return minLong();
+    }
+
+    @Override
+    public Long delMin() {
+        return delMinLong();
+    }
+
+    /**
+     * Inserts a primitive key without boxing.
+     *
+     * @param x the key to insert
+     * @throws IllegalArgumentException if {@code x} is below {@link #floor()}
+     */
+    public void insertLong(long x) {
+        if (x < last) {
+            throw new IllegalArgumentException("Non-monotone insert: " + x + " is below the last minimum " + last);
+        }
+        append(bucketOf(x), x);
+        n++;
+        if (hasPeeked && x < peeked) peeked = x;
+    }
+
+    public long minLong() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        if (counts[0] > 0) return last;
+        if (!hasPeeked) {
+            peeked = bucketMin(firstBucket());
+            hasPeeked = true;
+        }
+        return peeked;
+    }
+
+    public long delMinLong() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        refill();
+        hasPeeked = false;
+        counts[0]--;
+        n--;
+        return last;
+    }
+
+    /** Index of the bucket that x belongs in, relative to the current last. */
+    private int bucketOf(long x) {
+        return 64 - Long.numberOfLeadingZeros(x ^ last);
+    }
+
+    private void append(int b, long x) {
+        if (counts[b] == buckets[b].length) {
+            long[] temp = new long[2 * buckets[b].length];
+            System.arraycopy(buckets[b], 0, temp, 0, counts[b]);
+            buckets[b] = temp;
+        }
+        buckets[b][counts[b]++] = x;
+    }
+
+    /**
+     * Makes bucket 0 non-empty: moves {@code last} up to the smallest key of
+     * the first non-empty bucket and spreads that bucket over lower ones.
+     * The heap must not be empty.
+     */
+    private void refill() {
+        if (counts[0] > 0) return;
+        int b = firstBucket();
+        long[] bucket = buckets[b];
+        int m = counts[b];
+        last = hasPeeked ? peeked : bucketMin(b);
+        counts[b] = 0;
+        // every key now agrees with last above bit b - 1, so it lands in a bucket below b
+        for (int i = 0; i < m; i++) {
+            append(bucketOf(bucket[i]), bucket[i]);
+        }
+    }
+
+    /** Index of the first non-empty bucket above 0. Some bucket must be non-empty. */
+    private int firstBucket() {
+        int b = 1;
+        while (counts[b] == 0) b++;
+        return b;
+    }
+
+    private long bucketMin(int b) {
+        long[] bucket = buckets[b];
+        long min = bucket[0];
+        for (int i = 1; i < counts[b]; i++) {
+            if (bucket[i] < min) min = bucket[i];
+        }
+        return min;
+    }
+
+    @Override
+    protected void swim(int k) {
+        throw new UnsupportedOperationException("Radix heap has no array layout");
+    }
+
+    @Override
+    protected void sink(int k) {
+        throw new UnsupportedOperationException("Radix heap has no array layout");
+    }
+
+    @Override
+    protected boolean greater(int i, int j) {
+        throw new UnsupportedOperationException("Radix heap has no array layout");
+    }
+
+    @Override
+    protected void exch(int i, int j) {
+        throw new UnsupportedOperationException("Radix heap has no array layout");
+    }
+
+    @Override
+    protected void resize(int newCap) {
+        throw new UnsupportedOperationException("Radix heap has no array layout");
+    }
+
+    @Override
+    protected int compare(Long a, Long b) {
+        return Long.compare(a, b);
+    }
+}
@@ -0,0 +1,294 @@
+package com.student_work;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Multiset min-heap of {@code long} keys that stores each run of equal keys
+ * as one (key, count) entry.
+ *
+ * <p>Entries sit in parallel 1-indexed {@code keys}/{@code counts} arrays in
+ * the same d-ary layout as {@link LongMinHeap}, and sift loops only touch
+ * entries, so inputs dominated by duplicates cost time in proportion to the
+ * number of distinct keys rather than the number of copies. An insert whose
+ * key equals the minimum is added to the root's count in O(1). Other equal
+ * keys may sit in separate entries until they reach the top;
+ * {@link #minCount()} and {@link #removeMin(long)} fold them into the root
+ * first.</p>
+ *
+ * <p>{@link #size()} counts copies, not entries; {@link #runs()} counts
+ * entries.</p>
+ */
+public class RunLengthLongHeap extends AbstractMinHeap<Long> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] keys;    // 1-indexed: keys[0] is unused
+    private long[] counts;  // counts[k] = copies of keys[k], always at least 1
+    private int n;          // number of entries
+    private long total;     // number of copies across all entries
+    private final int d;    // arity: number of children per node
+
+    public RunLengthLongHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RunLengthLongHeap(int capacity) {
+        this(capacity, LongMinHeap.DEFAULT_ARITY);
+    }
+
+    /**
+     * Creates an empty d-ary heap.
+     *
+     * @param capacity the initial number of entries
+     * @param arity    the number of children per node, at least 2
+     * @throws IllegalArgumentException if {@code arity < 2}
+     */
+    public RunLengthLongHeap(int capacity, int arity) {
+        if (arity < 2) throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        keys = new long[Math.max(capacity, 1) + 1];
+        counts = new long[keys.length];
+        n = 0;
+        total = 0;
+        d = arity;
+    }
+
+    /**
+     * Builds a heap holding a copy of {@code src}, one entry per distinct
+     * key. The copy is sorted and run-length encoded; entries in ascending
+     * order already satisfy heap order, so no sifting is needed.
+     * {@code src} is not modified.
+     *
+     * @param src the keys to load
+     */
+    public RunLengthLongHeap(long[] src) {
+        this(src.length);
+        long[] sorted = src.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < sorted.length; i++) {
+            if (n > 0 && keys[n] == sorted[i]) {
+                counts[n]++;
+            } else {
+                keys[++n] = sorted[i];
+                counts[n] = 1;
+            }
+        }
+        total = sorted.length;
+        // duplicates leave most of the arrays unused
+        if (n < (keys.length - 1) / 4) resize(Math.max(n, 1) + 1);
+    }
+
+    /**
+     * Returns the number of copies, capped at {@code Integer.MAX_VALUE}.
+     *
+     * @return the size of the heap
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the exact number of copies.
+     *
+     * @return the size of the heap
+     */
+    public long sizeLong() {
+        return total;
+    }
+
+    /**
+     * Returns the number of (key, count) entries stored.
+     *
+     * @return the entry count
+     */
+    public int runs() {
+        return n;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return total == 0;
+    }
+
+    @Override
+    public void clear() {
+        n = 0;
+        total = 0;
+    }
+
+    @Override
+    public void insert(Long x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        insert(x, 1);
+    }
+
+    @Override
+    public Long min() {
+        return minLong();
+    }
+
+    @Override
+    public Long delMin() {
+        return delMinLong();
+    }
+
+    public void insertLong(long x) {
+        insert(x, 1);
+    }
+
+    /**
+     * Inserts {@code count} copies of {@code key} as a single entry.
+     *
+     * @param key   the key to insert
+     * @param count the number of copies, at least 1
+     * @throws IllegalArgumentException if {@code count < 1}
+     */
+    public void insert(long key, long count) {
+        if (count < 1) throw new IllegalArgumentException("Count must be at least 1: " + count);
+        total += count;
+        if (n > 0 && keys[1] == key) {
+            counts[1] += count;
+            return;
+        }
+        if (n == keys.length - 1) resize(2 * keys.length);
+        n++;
+        keys[n] = key;
+        counts[n] = count;
+        swim(n);
+    }
+
+    public long minLong() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        return keys[1];
+    }
+
+    /**
+     * Returns how many copies of the minimum key the heap holds.
+     *
+     * @return the number of copies of the smallest key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long minCount() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        coalesceMin();
+        return counts[1];
+    }
+
+    /**
+     * Removes and returns one copy of the smallest key.
+     *
+     * @return the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long delMinLong() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        long min = keys[1];
+        total--;
+        if (--counts[1] == 0) deleteRoot();
+        return min;
+    }
+
+    /**
+     * Removes {@code count} copies of the smallest key in one step.
+     *
+     * @param count the number of copies to remove, at least 1
+     * @throws NoSuchElementException   if the heap is empty
+     * @throws IllegalArgumentException if {@code count} is below 1 or above {@link #minCount()}
+     */
+    public void removeMin(long count) {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        if (count < 1) throw new IllegalArgumentException("Count must be at least 1: " + count);
+        coalesceMin();
+        if (count > counts[1]) {
+            throw new IllegalArgumentException("Cannot remove " + count + " copies, minimum has " + counts[1]);
+        }
+        total -= count;
+        counts[1] -= count;
+        if (counts[1] == 0) deleteRoot();
+    }
+
+    /**
+     * Folds every entry whose key equals the root's into the root. Such an
+     * entry is always a child of the root while the root holds the minimum.
+     */
+    private void coalesceMin() {
+        while (n > 1) {
+            int last = Math.min(d + 1, n);
+            int j = 2;
+            for (int c = 3; c <= last; c++) {
+                if (greater(j, c)) j = c;
+            }
+            if (keys[j] != keys[1]) return;
+            counts[1] += counts[j];
+            keys[j] = keys[n];
+            counts[j] = counts[n];
+            n--;
+            // the moved entry is no smaller than the root, so it can only need to sink
+            if (j <= n) sink(j);
+        }
+    }
+
+    private void deleteRoot() {
+        keys[1] = keys[n];
+        counts[1] = counts[n];
+        n--;
+        sink(1);
+        if (n > 0 && n == (keys.length - 1) / 4) resize(keys.length / 2);
+    }
+
+    @Override
+    protected void swim(int k) {
+        while (k > 1) {
+            int parent = (k - 2) / d + 1;
+            if (!greater(parent, k)) break;
+            exch(k, parent);
+            k = parent;
+        }
+    }
+
+    @Override
+    protected void sink(int k) {
+        // nodes 1 .. ceil((n - 1) / d) have at least one child
+        while (k <= (n + d - 2) / d) {
+            int first = d * (k - 1) + 2;
+            int last = Math.min(first + d - 1, n);
+            int j = first;
+            for (int c = first + 1; c <= last; c++) {
+                if (greater(j, c)) j = c;
+            }
+            if (!greater(k, j)) break;
+            exch(k, j);
+            k = j;
+        }
+    }
+
+    @Override
+    protected boolean greater(int i, int j) {
+        return keys[i] > keys[j];
+    }
+
+    @Override
+    protected void exch(int i, int j) {
+        long swapKey = keys[i];
+        keys[i] = keys[j];
+        keys[j] = swapKey;
+        long swapCount = counts[i];
+        counts[i] = counts[j];
+        counts[j] = swapCount;
+    }
+
+    @Override
+    protected void resize(int newCap) {
+        long[] tempKeys = new long[newCap];
+        System.arraycopy(keys, 1, tempKeys, 1, n);
+        keys = tempKeys;
+        long[] tempCounts = new long[newCap];
+        System.arraycopy(counts, 1, tempCounts, 1, n);
+        counts = tempCounts;
+    }
+
+    @Override
+    protected int compare(Long a, Long b) {
+        return Long.compare(a, b);
+    }
+}
@@ -0,0 +1,170 @@
+package com.student_work;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Min-heap of primitive {@code long} keys stored in fixed-size segments.
+ *
+ * <p>Position k lives in segment {@code k >>> SEGMENT_BITS}. Growing the heap
+ * allocates one new segment and shrinking frees one, so existing keys are
+ * never copied and no single insert or delMin pays for an O(n) resize. Only
+ * the small directory of segment references is ever doubled. The tree is
+ * d-ary and 1-indexed with the same layout as {@link LongMinHeap}.</p>
+ */
+public class SegmentedLongMinHeap extends AbstractMinHeap<Long> {
+    private static final int SEGMENT_BITS = 12;     // 4096 longs = 32 KiB per segment
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_BITS;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private long[][] segments;  // position k lives at segments[k >>> SEGMENT_BITS][k & SEGMENT_MASK]
+    private int segmentCount;   // number of allocated segments
+    private int n;              // number of elements (position 0 is unused)
+    private final int d;        // arity: number of children per node
+
+    public SegmentedLongMinHeap() {
+        this(SEGMENT_SIZE - 1);
+    }
+
+    public SegmentedLongMinHeap(int capacity) {
+        this(capacity, LongMinHeap.DEFAULT_ARITY);
+    }
+
+    /**
+     * Creates an empty d-ary heap.
+     *
+     * @param capacity the initial capacity
+     * @param arity    the number of children per node, at least 2
+     * @throws IllegalArgumentException if {@code arity < 2}
+     */
+    public SegmentedLongMinHeap(int capacity, int arity) {
+        if (arity < 2) throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        d = arity;
+        segments = new long[4][];
+        segmentCount = 0;
+        n = 0;
+        resize(Math.max(capacity, 1) + 1);
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Empties the heap and frees every segment but the first.
+     */
+    @Override
+    public void clear() {
+        n = 0;
+        while (segmentCount > 1) {
+            segments[--segmentCount] = null;
+        }
+    }
+
+    @Override
+    public void insert(Long x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        insertLong(x);
+    }
+
+    @Override
+    public Long min() {
+        return minLong();
+    }
+
+    @Override
+    public Long delMin() {
+        return delMinLong();
+    }
+
+    public void insertLong(long x) {
+        if (n + 1 == segmentCount << SEGMENT_BITS) resize(n + 2);
+        n++;
+        segments[n >>> SEGMENT_BITS][n & SEGMENT_MASK] = x;
+        swim(n);
+    }
+
+    public long minLong() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        return segments[0][1];
+    }
+
+    public long delMinLong() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        long min = segments[0][1];
+        exch(1, n--);
+        sink(1);
+        // keep one spare segment so an insert/delMin pair at a boundary does not thrash
+        if (segmentCount > 2 && n < (segmentCount - 2) << SEGMENT_BITS) {
+            segments[--segmentCount] = null;
+        }
+        return min;
+    }
+
+    @Override
+    protected void swim(int k) {
+        while (k > 1) {
+            int parent = (k - 2) / d + 1;
+            if (!greater(parent, k)) break;
+            exch(k, parent);
+            k = parent;
+        }
+    }
+
+    @Override
+    protected void sink(int k) {
+        // nodes 1 .. ceil((n - 1) / d) have at least one child
+        while (k <= (n + d - 2) / d) {
+            int first = d * (k - 1) + 2;
+            int last = Math.min(first + d - 1, n);
+            int j = first;
+            for (int c = first + 1; c <= last; c++) {
+                if (greater(j, c)) j = c;
+            }
+            if (!greater(k, j)) break;
+            exch(k, j);
+            k = j;
+        }
+    }
+
+    @Override
+    protected boolean greater(int i, int j) {
+        return segments[i >>> SEGMENT_BITS][i & SEGMENT_MASK] > segments[j >>> SEGMENT_BITS][j & SEGMENT_MASK];
+    }
+
+    @Override
+    protected void exch(int i, int j) {
+        long[] si = segments[i >>> SEGMENT_BITS];
+        long[] sj = segments[j >>> SEGMENT_BITS];
+        long swap = si[i & SEGMENT_MASK];
+        si[i & SEGMENT_MASK] = sj[j & SEGMENT_MASK];
+        sj[j & SEGMENT_MASK] = swap;
+    }
+
+    /**
+     * Allocates segments until positions up to {@code newCap - 1} exist.
+     * Existing segments are kept as they are; only the directory is copied
+     * when it runs out of slots.
+     */
+    @Override
+    protected void resize(int newCap) {
+        while (segmentCount << SEGMENT_BITS < newCap) {
+            if (segmentCount == segments.length) {
+                long[][] temp = new long[2 * segments.length][];
+                System.arraycopy(segments, 0, temp, 0, segmentCount);
+                segments = temp;
+            }
+            segments[segmentCount++] = new long[SEGMENT_SIZE];
+        }
+    }
+
+    @Override
+    protected int compare(Long a, Long b) {
+        return Long.compare(a, b);
+    }
+}
@@ -0,0 +1,163 @@
+package com.student_work;
+
+import java.util.Arrays;
+
+/**
+ * Min-heap of {@link PizzaJob}s ordered by cook time, stored in fixed-size
+ * segments.
+ *
+ * <p>Position k lives in segment {@code k >>> SEGMENT_BITS}. Growing the heap
+ * allocates one new segment and shrinking frees one, so existing jobs are
+ * never copied and no single insert or delMin pays for an O(n) resize. Only
+ * the small directory of segment references is ever doubled. The tree is
+ * d-ary and 1-indexed with the same layout as {@link PizzaJobMinHeap}.</p>
+ */
+public class SegmentedPizzaJobMinHeap extends AbstractMinHeap<PizzaJob> {
+    private static final int SEGMENT_BITS = 12;     // 4096 references per segment
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_BITS;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private PizzaJob[][] segments;  // position k lives at segments[k >>> SEGMENT_BITS][k & SEGMENT_MASK]
+    private int segmentCount;       // number of allocated segments
+    private int n;                  // number of elements (position 0 is unused)
+    private final int d;            // arity: number of children per node
+
+    public SegmentedPizzaJobMinHeap() {
+        this(SEGMENT_SIZE - 1);
+    }
+
+    public SegmentedPizzaJobMinHeap(int capacity) {
+        this(capacity, PizzaJobMinHeap.DEFAULT_ARITY);
+    }
+
+    /**
+     * Creates an empty d-ary heap.
+     *
+     * @param capacity the initial capacity
+     * @param arity    the number of children per node, at least 2
+     * @throws IllegalArgumentException if {@code arity < 2}
+     */
+    public SegmentedPizzaJobMinHeap(int capacity, int arity) {
+        if (arity < 2) throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        d = arity;
+        segments = new PizzaJob[4][];
+        segmentCount = 0;
+        n = 0;
+        resize(Math.max(capacity, 1) + 1);
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Empties the heap and frees every segment but the first.
+     */
+    @Override
+    public void clear() {
+        n = 0;
+        while (segmentCount > 1) {
+            segments[--segmentCount] = null;
+        }
+        Arrays.fill(segments[0], null);
+    }
+
+    @Override
+    public void insert(PizzaJob x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        if (n + 1 == segmentCount << SEGMENT_BITS) resize(n + 2);
+        n++;
+        segments[n >>> SEGMENT_BITS][n & SEGMENT_MASK] = x;
+        swim(n);
+    }
+
+    @Override
+    public PizzaJob min() {
+        if (isEmpty()) throw new IllegalStateException("Heap underflow");
+        return segments[0][1];
+    }
+
+    @Override
+    public PizzaJob delMin() {
+        if (isEmpty()) throw new IllegalStateException("Heap underflow");
+        PizzaJob min = segments[0][1];
+        exch(1, n);
+        segments[n >>> SEGMENT_BITS][n & SEGMENT_MASK] = null;     // avoid loitering
+        n--;
+        sink(1);
+        // keep one spare segment so an insert/delMin pair at a boundary does not thrash
+        if (segmentCount > 2 && n < (segmentCount - 2) << SEGMENT_BITS) {
+            segments[--segmentCount] = null;
+        }
+        return min;
+    }
+
+    @Override
+    protected void swim(int k) {
+        while (k > 1) {
+            int parent = (k - 2) / d + 1;
+            if (!greater(parent, k)) break;
+            exch(k, parent);
+            k = parent;
+        }
+    }
+
+    @Override
+    protected void sink(int k) {
+        // nodes 1 .. ceil((n - 1) / d) have at least one child
+        while (k <= (n + d - 2) / d) {
+            int first = d * (k - 1) + 2;
+            int last = Math.min(first + d - 1, n);
+            int j = first;
+            for (int c = first + 1; c <= last; c++) {
+                if (greater(j, c)) j = c;
+            }
+            if (!greater(k, j)) break;
+            exch(k, j);
+            k = j;
+        }
+    }
+
+    @Override
+    protected boolean greater(int i, int j) {
+        return compare(segments[i >>> SEGMENT_BITS][i & SEGMENT_MASK],
+                segments[j >>> SEGMENT_BITS][j & SEGMENT_MASK]) > 0;
+    }
+
+    @Override
+    protected void exch(int i, int j) {
+        PizzaJob[] si = segments[i >>> SEGMENT_BITS];
+        PizzaJob[] sj = segments[j >>> SEGMENT_BITS];
+        PizzaJob swap = si[i & SEGMENT_MASK];
+        si[i & SEGMENT_MASK] = sj[j & SEGMENT_MASK];
+        sj[j & SEGMENT_MASK] = swap;
+    }
+
+    /**
+     * Allocates segments until positions up to {@code newCap - 1} exist.
+     * Existing segments are kept as they are; only the directory is copied
+     * when it runs out of slots.
+     */
+    @Override
+    protected void resize(int newCap) {
+        while (segmentCount << SEGMENT_BITS < newCap) {
+            if (segmentCount == segments.length) {
+                PizzaJob[][] temp = new PizzaJob[2 * segments.length][];
+                System.arraycopy(segments, 0, temp, 0, segmentCount);
+                segments = temp;
+            }
+            segments[segmentCount++] = new PizzaJob[SEGMENT_SIZE];
+        }
+    }
+
+    @Override
+    protected int compare(PizzaJob a, PizzaJob b) {
+        return Long.compare(a.getCookTime(), b.getCookTime());
+    }
+}
@@ -0,0 +1,299 @@
+package com.student_work;
+
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+/**
+ * Wrapper around any {@link AbstractMinHeap} whose read-only queries never
+ * take a lock, for monitoring threads that poll a busy heap.
+ *
+ * <p>{@code insert}, {@code delMin} and {@code clear} run under a lock. After
+ * each one the writer publishes the heap's size, its minimum and minimum
+ * key, and running insert/delete counters through a seqlock: it makes a
+ * sequence number odd, stores the fields and makes it even again. A reader
+ * reads the sequence number, then the fields, then the sequence number
+ * again, and retries if a write was in progress or happened in between.
+ * Readers write nothing shared, so they never slow the writer down and
+ * never wait for it beyond the few stores of one publish. Publishing costs
+ * one {@code min} call on the wrapped heap, which may allocate: a
+ * {@link LongMinHeap} boxes its minimum and a {@link PizzaJobMinHeap}
+ * builds a copy. Wrap a {@link KeyedLongHeap} to publish without
+ * allocating.</p>
+ *
+ * <p>{@link #size()}, {@link #isEmpty()}, {@link #min()}, {@link #minKey()},
+ * {@link #insertCount()} and {@link #deleteCount()} each read one value;
+ * {@link #snapshot()} reads them all as of the same moment. An empty heap
+ * throws {@code NoSuchElementException} from {@code min} and
+ * {@code delMin}, like the other generic heaps, whatever the wrapped heap
+ * throws.</p>
+ *
+ * @param <T> the element type
+ */
+public class SeqlockMinHeap<T> extends AbstractMinHeap<T> {
+
+    /** Key reported for an empty heap. */
+    public static final long EMPTY_KEY = Long.MAX_VALUE;
+
+    /** Published state of the heap at one moment. */
+    public static final class Snapshot<T> {
+        private final int size;
+        private final T min;
+        private final long minKey;
+        private final long inserts;
+        private final long deletes;
+
+        private Snapshot(int size, T min, long minKey, long inserts, long deletes) {
+            this.size = size;
+            this.min = min;
+            this.minKey = minKey;
+            this.inserts = inserts;
+            this.deletes = deletes;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /** Returns the minimum, or null if the heap was empty. */
+        public T min() {
+            return min;
+        }
+
+        /** Returns the key of the minimum, or {@link SeqlockMinHeap#EMPTY_KEY} if the heap was empty. */
+        public long minKey() {
+            return minKey;
+        }
+
+        public long inserts() {
+            return inserts;
+        }
+
+        public long deletes() {
+            return deletes;
+        }
+    }
+
+    private final AbstractMinHeap<T> heap;              // guarded by lock
+    private final ToLongFunction<? super T> keyOf;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile long seq;      // odd while the writer is publishing
+    private int size;               // published fields, read racily and validated by seq
+    private T min;
+    private long minKey = EMPTY_KEY;
+    private long inserts;
+    private long deletes;
+
+    /**
+     * Wraps an empty heap.
+     *
+     * @param heap  the heap to wrap; it must not be used directly afterwards
+     * @param keyOf the key the heap orders by, reported by {@link #minKey()}
+     * @throws IllegalArgumentException if an argument is null or the heap is not empty
+     */
+    public SeqlockMinHeap(AbstractMinHeap<T> heap, ToLongFunction<? super T> keyOf) {
+        if (heap == null) throw new IllegalArgumentException("Heap must not be null");
+        if (keyOf == null) throw new IllegalArgumentException("Key function must not be null");
+        if (!heap.isEmpty()) throw new IllegalArgumentException("Heap must be empty");
+        this.heap = heap;
+        this.keyOf = keyOf;
+    }
+
+    // ========== Writes ==========
+
+    @Override
+    public void insert(T x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        lock.lock();
+        try {
+            heap.insert(x);
+            publish(1, 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T delMin() {
+        lock.lock();
+        try {
+            if (heap.isEmpty()) throw new NoSuchElementException("Heap underflow");
+            T top = heap.delMin();
+            publish(0, 1);
+            return top;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            int removed = heap.size();
+            heap.clear();
+            publish(0, removed);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Publishes the heap's state; the caller holds the lock. */
+    private void publish(long inserted, long deleted) {
+        long s = seq;
+        seq = s + 1;
+        VarHandle.storeStoreFence();        // keep the field stores after the odd sequence number
+        size = heap.size();
+        if (heap.isEmpty()) {
+            min = null;
+            minKey = EMPTY_KEY;
+        } else {
+            min = heap.min();
+            minKey = keyOf.applyAsLong(min);
+        }
+        inserts += inserted;
+        deletes += deleted;
+        seq = s + 2;                        // volatile store releases the fields above
+    }
+
+    // ========== Lock-free Reads ==========
+
+    @Override
+    public int size() {
+        while (true) {
+            long s = beginRead();
+            int result = size;
+            if (validate(s)) return result;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the minimum as of the last completed write.
+     *
+     * @return the smallest element
+     * @throws NoSuchElementException if the heap is empty
+     */
+    @Override
+    public T min() {
+        T result = snapshotMin();
+        if (result == null) throw new NoSuchElementException("Heap underflow");
+        return result;
+    }
+
+    /**
+     * Returns the key of the minimum without building or returning the element.
+     *
+     * @return the smallest key, or {@link #EMPTY_KEY} if the heap is empty
+     */
+    public long minKey() {
+        while (true) {
+            long s = beginRead();
+            long result = minKey;
+            if (validate(s)) return result;
+        }
+    }
+
+    /**
+     * Returns the number of elements inserted since the heap was created.
+     *
+     * @return the insert count
+     */
+    public long insertCount() {
+        while (true) {
+            long s = beginRead();
+            long result = inserts;
+            if (validate(s)) return result;
+        }
+    }
+
+    /**
+     * Returns the number of elements removed by {@code delMin} or {@code clear}
+     * since the heap was created.
+     *
+     * @return the delete count
+     */
+    public long deleteCount() {
+        while (true) {
+            long s = beginRead();
+            long result = deletes;
+            if (validate(s)) return result;
+        }
+    }
+
+    /**
+     * Returns size, minimum and counters as of the same completed write.
+     *
+     * @return a consistent snapshot
+     */
+    public Snapshot<T> snapshot() {
+        while (true) {
+            long s = beginRead();
+            int sz = size;
+            T m = min;
+            long key = minKey;
+            long ins = inserts;
+            long del = deletes;
+            if (validate(s)) return new Snapshot<>(sz, m, key, ins, del);
+        }
+    }
+
+    private T snapshotMin() {
+        while (true) {
+            long s = beginRead();
+            T result = min;
+            if (validate(s)) return result;
+        }
+    }
+
+    /** Waits out a publish in progress and returns the even sequence number. */
+    private long beginRead() {
+        long s;
+        while (((s = seq) & 1) != 0) {
+            Thread.onSpinWait();
+        }
+        return s;
+    }
+
+    /** True if no publish started since {@code s} was read. */
+    private boolean validate(long s) {
+        VarHandle.loadLoadFence();          // keep the field loads before the second sequence read
+        return seq == s;
+    }
+
+    @Override
+    protected void swim(int k) {
+        throw new UnsupportedOperationException("Seqlock wrapper has no array layout");
+    }
+
+    @Override
+    protected void sink(int k) {
+        throw new UnsupportedOperationException("Seqlock wrapper has no array layout");
+    }
+
+    @Override
+    protected boolean greater(int i, int j) {
+        throw new UnsupportedOperationException("Seqlock wrapper has no array layout");
+    }
+
+    @Override
+    protected void exch(int i, int j) {
+        throw new UnsupportedOperationException("Seqlock wrapper has no array layout");
+    }
+
+    @Override
+    protected void resize(int newCap) {
+        throw new UnsupportedOperationException("Seqlock wrapper has no array layout");
+    }
+
+    @Override
+    protected int compare(T a, T b) {
+        return Long.compare(keyOf.applyAsLong(a), keyOf.applyAsLong(b));
+    }
+}
@@ -0,0 +1,347 @@
+package com.student_work;
+
+import java.util.NoSuchElementException;
+import java.util.function.ToLongFunction;
+
+/**
+ * Soft heap (Chazelle; this is the simpler version by Kaplan and Zwick), an
+ * approximate min-priority queue for workloads that can trade exact order
+ * for speed.
+ *
+ * <p>A soft heap may <em>corrupt</em> an element by raising the key it is
+ * ordered by. After m inserts at most {@code epsilon * m} of the elements
+ * still in the heap are corrupted, whatever the sequence of operations.
+ * {@link #delMin()} removes an element of smallest current key, so it may
+ * return an element that is not the true minimum, but only because some
+ * smaller element was corrupted and passed over: when delMin runs, at most
+ * {@link #corrupted()} queued elements are smaller than the one it returns.
+ * In exchange delMin is amortized O(1) and insert amortized
+ * O(log(1/epsilon)).</p>
+ *
+ * <p>The heap is a list of binary trees ordered by rank. Every tree node
+ * holds a list of elements that share one current key. Nodes of rank above
+ * {@code r = ceil(log2(1/epsilon)) + 5} are allowed to hold more than one
+ * element; refilling such a node from its children merges their lists under
+ * the larger key, which is where corruption happens. Each node also counts
+ * the elements in its list whose key still equals the node's key, so
+ * {@link #corrupted()} is exact and costs O(1).</p>
+ *
+ * <p>The heap is linked, not an implicit array, so the array hooks of
+ * {@link AbstractMinHeap} are not supported.</p>
+ *
+ * @param <T> the element type
+ */
+public class SoftHeap<T> extends AbstractMinHeap<T> {
+    /** Error rate used by the one-argument constructor. */
+    public static final double DEFAULT_EPSILON = 0.01;
+
+    /** One element in a node's list. */
+    private static final class Item<T> {
+        final T elem;
+        Item<T> next;
+
+        Item(T elem) {
+            this.elem = elem;
+        }
+    }
+
+    /** Tree node: its element list all share the current key ckey. */
+    private static final class Node<T> {
+        long ckey;
+        final int rank;
+        final long size;        // target list length; lists are refilled when they fall below half
+        Node<T> left;
+        Node<T> right;
+        Item<T> first;
+        Item<T> last;
+        long count;             // elements in the list
+        long clean;             // elements in the list whose own key equals ckey
+
+        Node(long ckey, int rank, long size) {
+            this.ckey = ckey;
+            this.rank = rank;
+            this.size = size;
+        }
+
+        boolean isLeaf() {
+            return left == null && right == null;
+        }
+    }
+
+    /** Root list entry. sufmin is the tree with the smallest root key from here to the end. */
+    private static final class Tree<T> {
+        Node<T> root;
+        Tree<T> prev;
+        Tree<T> next;
+        Tree<T> sufmin;
+
+        Tree(Node<T> root) {
+            this.root = root;
+            this.sufmin = this;
+        }
+    }
+
+    private final ToLongFunction<? super T> keyOf;
+    private final double epsilon;
+    private final int r;                // nodes of rank <= r hold one element and are never corrupted
+    private Tree<T> first;              // trees in increasing rank
+    private int n;
+    private long inserts;
+    private long corrupted;             // elements in the heap whose key has been raised
+
+    public SoftHeap(ToLongFunction<? super T> keyOf) {
+        this(keyOf, DEFAULT_EPSILON);
+    }
+
+    /**
+     * Creates an empty soft heap.
+     *
+     * @param keyOf   the key to order by
+     * @param epsilon the error rate, in (0, 1/2]
+     * @throws IllegalArgumentException if {@code keyOf} is null or {@code epsilon} is out of range
+     */
+    public SoftHeap(ToLongFunction<? super T> keyOf, double epsilon) {
+        if (keyOf == null) throw new IllegalArgumentException("Key function must not be null");
+        if (!(epsilon > 0 && epsilon <= 0.5)) {
+            throw new IllegalArgumentException("Error rate must be in (0, 1/2]: " + epsilon);
+        }
+        this.keyOf = keyOf;
+        this.epsilon = epsilon;
+        this.r = (int) Math.ceil(Math.log(1 / epsilon) / Math.log(2)) + 5;
+    }
+
+    /**
+     * Returns the error rate this heap was created with.
+     *
+     * @return epsilon
+     */
+    public double epsilon() {
+        return epsilon;
+    }
+
+    /**
+     * Returns the most elements that can be corrupted in the heap at once
+     * given the inserts so far: {@code floor(epsilon * inserts)}.
+     *
+     * @return the corruption bound
+     */
+    public long corruptionBound() {
+        return (long) (epsilon * inserts);
+    }
+
+    /**
+     * Returns how many elements in the heap have had their key raised. This
+     * many, at most, can be smaller than the element delMin returns next.
+     *
+     * @return the number of corrupted elements, at most {@link #corruptionBound()}
+     */
+    public long corrupted() {
+        return corrupted;
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Empties the heap and resets the counters.
+     */
+    @Override
+    public void clear() {
+        first = null;
+        n = 0;
+        inserts = 0;
+        corrupted = 0;
+    }
+
+    @Override
+    public void insert(T x) {
+        if (x == null) throw new IllegalArgumentException("Cannot insert null");
+        Node<T> node = new Node<>(keyOf.applyAsLong(x), 0, 1);
+        node.first = node.last = new Item<>(x);
+        node.count = 1;
+        node.clean = 1;
+
+        // add a rank 0 tree at the front, then carry like a binary counter
+        Tree<T> tree = new Tree<>(node);
+        tree.next = first;
+        if (first != null) first.prev = tree;
+        first = tree;
+        while (tree.next != null && tree.next.root.rank == tree.root.rank) {
+            Tree<T> other = tree.next;
+            tree.root = combine(tree.root, other.root);
+            tree.next = other.next;
+            if (other.next != null) other.next.prev = tree;
+        }
+        updateSuffixMin(tree);
+        n++;
+        inserts++;
+    }
+
+    /**
+     * Returns an element of smallest current key. It is the true minimum
+     * unless a smaller element has been corrupted.
+     *
+     * @return a minimum element
+     * @throws NoSuchElementException if the heap is empty
+     */
+    @Override
+    public T min() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        return first.sufmin.root.first.elem;
+    }
+
+    /**
+     * Returns the current key of the element {@link #min()} returns. It is at
+     * least that element's own key, and more if the element is corrupted.
+     *
+     * @return the smallest current key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long minKey() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        return first.sufmin.root.ckey;
+    }
+
+    /**
+     * Removes an element of smallest current key in amortized O(1). See the
+     * class comment for how it relates to the true minimum.
+     *
+     * @return a minimum element
+     * @throws NoSuchElementException if the heap is empty
+     */
+    @Override
+    public T delMin() {
+        if (isEmpty()) throw new NoSuchElementException("Heap underflow");
+        Tree<T> tree = first.sufmin;
+        Node<T> x = tree.root;
+        Item<T> item = x.first;
+        x.first = item.next;
+        if (x.first == null) x.last = null;
+        x.count--;
+        if (keyOf.applyAsLong(item.elem) < x.ckey) {
+            corrupted--;
+        } else {
+            x.clean--;
+        }
+
+        if (2 * x.count <= x.size) {
+            if (!x.isLeaf()) {
+                sift(x);
+                updateSuffixMin(tree);
+            } else if (x.count == 0) {
+                removeTree(tree);
+            }
+        }
+        n--;
+        return item.elem;
+    }
+
+    /** Joins two roots of equal rank under a new node and fills its list. */
+    private Node<T> combine(Node<T> a, Node<T> b) {
+        int rank = a.rank + 1;
+        long size = rank <= r ? 1 : (3 * a.size + 1) / 2;
+        Node<T> z = new Node<>(0, rank, size);
+        z.left = a;
+        z.right = b;
+        sift(z);
+        return z;
+    }
+
+    /**
+     * Refills x's list from its children until it holds at least size
+     * elements or x is a leaf. Each step takes the whole list of the child
+     * with the smaller key, so x's key rises to that child's key and every
+     * element already in x's list is corrupted by the difference.
+     */
+    private void sift(Node<T> x) {
+        while (x.count < x.size && !x.isLeaf()) {
+            if (x.left == null || (x.right != null && x.left.ckey > x.right.ckey)) {
+                Node<T> swap = x.left;
+                x.left = x.right;
+                x.right = swap;
+            }
+            Node<T> child = x.left;
+            if (x.first == null) {
+                x.first = child.first;
+            } else {
+                x.last.next = child.first;
+            }
+            x.last = child.last;
+            x.count += child.count;
+            // child.ckey >= x.ckey; a strictly larger key corrupts the clean elements already here
+            if (child.ckey > x.ckey) {
+                corrupted += x.clean;
+                x.clean = child.clean;
+            } else {
+                x.clean += child.clean;
+            }
+            x.ckey = child.ckey;
+            child.first = child.last = null;
+            child.count = 0;
+            child.clean = 0;
+            if (child.isLeaf()) {
+                x.left = null;
+            } else {
+                sift(child);
+            }
+        }
+    }
+
+    private void removeTree(Tree<T> tree) {
+        if (tree.prev == null) {
+            first = tree.next;
+        } else {
+            tree.prev.next = tree.next;
+        }
+        if (tree.next != null) tree.next.prev = tree.prev;
+        if (tree.prev != null) updateSuffixMin(tree.prev);
+    }
+
+    /** Recomputes sufmin from tree back to the front of the list. */
+    private void updateSuffixMin(Tree<T> tree) {
+        for (Tree<T> t = tree; t != null; t = t.prev) {
+            if (t.next == null || t.root.ckey <= t.next.sufmin.root.ckey) {
+                t.sufmin = t;
+            } else {
+                t.sufmin = t.next.sufmin;
+            }
+        }
+    }
+
+    @Override
+    protected void swim(int k) {
+        throw new UnsupportedOperationException("Soft heap has no array layout");
+    }
+
+    @Override
+    protected void sink(int k) {
+        throw new UnsupportedOperationException("Soft heap has no array layout");
+    }
+
+    @Override
+    protected boolean greater(int i, int j) {
+        throw new UnsupportedOperationException("Soft heap has no array layout");
+    }
+
+    @Override
+    protected void exch(int i, int j) {
+        throw new UnsupportedOperationException("Soft heap has no array layout");
+    }
+
+    @Override
+    protected void resize(int newCap) {
+        throw new UnsupportedOperationException("Soft heap has no array layout");
+    }
+
+    @Override
+    protected int compare(T a, T b) {
+        return Long.compare(keyOf.applyAsLong(a), keyOf.applyAsLong(b));
+    }
+}
@@ -0,0 +1,123 @@
+import com.student_work.BlockedLongMinHeap;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class BlockedLongMinHeapTest {
+
+    // Helper: create a new empty heap with page-sized blocks
+    private BlockedLongMinHeap newHeap() {
+        return new BlockedLongMinHeap();
+    }
+
+    @Test
+    void insertAndDelMin_returnsSortedOrder() {
+        BlockedLongMinHeap heap = newHeap();
+        long[] values = {50L, 30L, 70L, 10L, 40L, 60L, 80L, 20L};
+        for (long val : values) {
+            heap.insert(val);
+        }
+
+        long[] expected = {10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], heap.delMin(),
+                    "Element at position " + i + " should be " + expected[i]);
+        }
+    }
+
+    @Test
+    void emptyHeap_throwsNoSuchElementException() {
+        BlockedLongMinHeap heap = newHeap();
+        assertThrows(NoSuchElementException.class, () -> heap.min(),
+                "min() on empty heap should throw NoSuchElementException.");
+        assertThrows(NoSuchElementException.class, () -> heap.delMin(),
+                "delMin() on empty heap should throw NoSuchElementException.");
+    }
+
+    @Test
+    void constructor_rejectsBadBlockBits() {
+        assertThrows(IllegalArgumentException.class, () -> new BlockedLongMinHeap(16, 1),
+                "Block bits below 2 should throw.");
+        assertThrows(IllegalArgumentException.class, () -> new BlockedLongMinHeap(16, 17),
+                "Block bits above 16 should throw.");
+        assertEquals(3, new BlockedLongMinHeap(16, 3).blockBits(), "blockBits() should report the constructor value.");
+    }
+
+    @Test
+    void growAndShrinkAcrossBlocks_keepsOrder_allBlockSizes() {
+        for (int bits : new int[] {2, 3, 5, 9}) {
+            BlockedLongMinHeap heap = new BlockedLongMinHeap(0, bits);
+            Random rand = new Random(12345);
+            ArrayList<Long> values = new ArrayList<>();
+
+            // several levels of blocks, then drain through every boundary
+            for (int i = 0; i < 20000; i++) {
+                long val = rand.nextLong();
+                values.add(val);
+                heap.insertLong(val);
+            }
+            Collections.sort(values);
+
+            assertEquals(values.size(), heap.size(), "Size should count every key (bits=" + bits + ").");
+            for (int i = 0; i < values.size(); i++) {
+                assertEquals(values.get(i), heap.delMinLong(),
+                        "Element at position " + i + " should match sorted order (bits=" + bits + ").");
+            }
+            assertTrue(heap.isEmpty(), "Heap should be empty after draining (bits=" + bits + ").");
+        }
+    }
+
+    @Test
+    void interleavedOperations_matchSortedModel() {
+        for (int bits : new int[] {2, 3, 9}) {
+            BlockedLongMinHeap heap = new BlockedLongMinHeap(1, bits);
+            ArrayList<Long> model = new ArrayList<>();
+            Random rand = new Random(12345);
+            for (int i = 0; i < 30000; i++) {
+                if (model.isEmpty() || rand.nextInt(5) < 3) {
+                    long val = rand.nextInt(1000);
+                    heap.insertLong(val);
+                    model.add(val);
+                } else {
+                    Collections.sort(model);
+                    assertEquals(model.remove(0), heap.delMinLong(),
+                            "delMin should match the model at step " + i + " (bits=" + bits + ").");
+                }
+            }
+            assertEquals(model.size(), heap.size(), "Size should match the model (bits=" + bits + ").");
+        }
+    }
+
+    @Test
+    void alternatingAtBlockBoundary_maintainsCorrectState() {
+        BlockedLongMinHeap heap = newHeap();
+        // exactly one full 511-key block
+        for (long i = 511; i >= 1; i--) {
+            heap.insertLong(i);
+        }
+        for (int round = 0; round < 10; round++) {
+            heap.insertLong(0L);
+            assertEquals(0L, heap.delMinLong(), "Boundary insert/delMin should round-trip.");
+        }
+        assertEquals(1L, heap.minLong(), "Original minimum should be intact.");
+        assertEquals(511, heap.size(), "Size should be back to one full block.");
+    }
+
+    @Test
+    void clear_allowsReuse() {
+        BlockedLongMinHeap heap = newHeap();
+        for (long i = 10000; i > 0; i--) {
+            heap.insertLong(i);
+        }
+        heap.clear();
+        assertTrue(heap.isEmpty(), "Heap should be empty after clear.");
+
+        heap.insertLong(5L);
+        heap.insertLong(3L);
+        assertEquals(3L, heap.minLong(), "Heap should work after clear.");
+    }
+}
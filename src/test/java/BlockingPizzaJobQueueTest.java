@@ -0,0 +1,338 @@
+import com.student_work.BlockingPizzaJobQueue;
+import com.student_work.PizzaJob;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class BlockingPizzaJobQueueTest {
+
+    // Helper: create a new empty unbounded queue
+    private BlockingPizzaJobQueue newQueue() {
+        return new BlockingPizzaJobQueue();
+    }
+
+    @Test
+    void putAndTake_returnJobsInCookTimeOrder() throws InterruptedException {
+        BlockingPizzaJobQueue queue = newQueue();
+        long[] cookTimes = {50, 30, 70, 10, 40, 60, 80, 20};
+        for (int i = 0; i < cookTimes.length; i++) {
+            queue.put(new PizzaJob(i, cookTimes[i]));
+        }
+        assertEquals(8, queue.size(), "Size should count every put.");
+
+        long[] expected = {10, 20, 30, 40, 50, 60, 70, 80};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], queue.take().getCookTime(),
+                    "Job at position " + i + " should have cook time " + expected[i]);
+        }
+        assertTrue(queue.isEmpty(), "Queue should be empty after draining.");
+    }
+
+    @Test
+    void heapMethods_doNotBlock() {
+        BlockingPizzaJobQueue queue = new BlockingPizzaJobQueue(2);
+        queue.insert(new PizzaJob(1, 9));
+        queue.insert(new PizzaJob(2, 4));
+        assertThrows(IllegalStateException.class, () -> queue.insert(new PizzaJob(3, 1)),
+                "insert on a full queue should throw.");
+        assertEquals(4, queue.min().getCookTime(), "min should see the shortest job.");
+        assertEquals(4, queue.delMin().getCookTime(), "delMin should remove the shortest job.");
+        assertEquals(9, queue.delMin().getCookTime(), "delMin should remove the remaining job.");
+        assertThrows(IllegalStateException.class, () -> queue.min(),
+                "min() on empty queue should throw IllegalStateException.");
+        assertThrows(IllegalStateException.class, () -> queue.delMin(),
+                "delMin() on empty queue should throw IllegalStateException.");
+    }
+
+    @Test
+    void jobsComeBack_asTheSameInstances() throws InterruptedException {
+        BlockingPizzaJobQueue queue = newQueue();
+        PizzaJob plain = new PizzaJob(1, 20);
+        PizzaJob rush = new PizzaJob(2, 10) {
+            @Override
+            public String toString() {
+                return "rush order";
+            }
+        };
+        queue.put(plain);
+        queue.put(rush);
+        assertSame(rush, queue.min(), "min should return the queued instance.");
+        assertSame(rush, queue.take(), "take should return the queued instance, subclass and all.");
+        assertSame(plain, queue.poll(), "poll should return the queued instance.");
+    }
+
+    // ========== Capacity and Backpressure ==========
+
+    @Test
+    void boundedQueue_offerFailsWhenFull() {
+        BlockingPizzaJobQueue queue = new BlockingPizzaJobQueue(3);
+        assertEquals(3, queue.remainingCapacity(), "An empty queue should have all its capacity.");
+        for (int i = 0; i < 3; i++) {
+            assertTrue(queue.offer(new PizzaJob(i, i)), "offer should succeed while there is space.");
+        }
+        assertEquals(0, queue.remainingCapacity(), "A full queue should have no capacity left.");
+        assertFalse(queue.offer(new PizzaJob(9, 9)), "offer should fail on a full queue.");
+
+        queue.poll();
+        assertEquals(1, queue.remainingCapacity(), "poll should free a slot.");
+        assertTrue(queue.offer(new PizzaJob(9, 9)), "offer should succeed after a poll.");
+    }
+
+    @Test
+    void unboundedQueue_reportsMaxCapacity() {
+        assertEquals(Integer.MAX_VALUE, newQueue().remainingCapacity(),
+                "An unbounded queue should report Integer.MAX_VALUE.");
+    }
+
+    @Test
+    @Timeout(10)
+    void put_blocksUntilATakeFreesSpace() throws InterruptedException {
+        BlockingPizzaJobQueue queue = new BlockingPizzaJobQueue(1);
+        queue.put(new PizzaJob(0, 5));
+        CountDownLatch done = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                queue.put(new PizzaJob(1, 7));
+                done.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        assertFalse(done.await(100, TimeUnit.MILLISECONDS), "put should block while the queue is full.");
+        assertEquals(5, queue.take().getCookTime(), "take should return the queued job.");
+        assertTrue(done.await(5, TimeUnit.SECONDS), "put should finish once a slot is free.");
+        assertEquals(7, queue.take().getCookTime(), "The blocked job should be queued.");
+        producer.join();
+    }
+
+    @Test
+    void timedOffer_timesOutWhenFull() throws InterruptedException {
+        BlockingPizzaJobQueue queue = new BlockingPizzaJobQueue(1);
+        queue.put(new PizzaJob(0, 5));
+        assertFalse(queue.offer(new PizzaJob(1, 1), 20, TimeUnit.MILLISECONDS),
+                "A timed offer on a full queue should time out.");
+        assertEquals(1, queue.size(), "The timed-out job should not be queued.");
+    }
+
+    // ========== Timed Poll and Take ==========
+
+    @Test
+    void poll_onEmptyQueue_returnsNull() throws InterruptedException {
+        BlockingPizzaJobQueue queue = newQueue();
+        assertNull(queue.poll(), "poll on an empty queue should return null.");
+        long start = System.nanoTime();
+        assertNull(queue.poll(20, TimeUnit.MILLISECONDS), "A timed poll should return null on timeout.");
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20),
+                "A timed poll should wait out its timeout.");
+    }
+
+    @Test
+    @Timeout(10)
+    void take_blocksUntilAJobArrives() throws InterruptedException {
+        BlockingPizzaJobQueue queue = newQueue();
+        AtomicReference<PizzaJob> taken = new AtomicReference<>();
+        Thread oven = new Thread(() -> {
+            try {
+                taken.set(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        oven.start();
+
+        Thread.sleep(50);
+        assertNull(taken.get(), "take should block on an empty queue.");
+        queue.put(new PizzaJob(3, 11));
+        oven.join(5000);
+        assertEquals(11, taken.get().getCookTime(), "take should return the job once it arrives.");
+    }
+
+    @Test
+    @Timeout(10)
+    void timedPoll_wakesWhenAJobArrives() throws InterruptedException {
+        BlockingPizzaJobQueue queue = newQueue();
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+                queue.put(new PizzaJob(1, 6));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        PizzaJob job = queue.poll(5, TimeUnit.SECONDS);
+        assertNotNull(job, "A timed poll should return a job put during the wait.");
+        assertEquals(6, job.getCookTime(), "The polled job should be the one put.");
+        producer.join();
+    }
+
+    @Test
+    @Timeout(10)
+    void take_isInterruptible() throws InterruptedException {
+        BlockingPizzaJobQueue queue = newQueue();
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread oven = new Thread(() -> {
+            try {
+                queue.take();
+            } catch (InterruptedException e) {
+                thrown.set(e);
+            }
+        });
+        oven.start();
+        Thread.sleep(50);
+        oven.interrupt();
+        oven.join(5000);
+        assertTrue(thrown.get() instanceof InterruptedException, "An interrupted take should throw.");
+    }
+
+    // ========== drainTo ==========
+
+    @Test
+    void drainTo_movesJobsShortestFirst() {
+        BlockingPizzaJobQueue queue = new BlockingPizzaJobQueue(10);
+        for (int i = 0; i < 10; i++) {
+            queue.offer(new PizzaJob(i, 10 - i));
+        }
+        List<PizzaJob> batch = new ArrayList<>();
+        assertEquals(4, queue.drainTo(batch, 4), "drainTo should move at most maxJobs.");
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i + 1, batch.get(i).getCookTime(), "Batch position " + i + " should be in order.");
+        }
+        assertEquals(6, queue.size(), "Drained jobs should leave the queue.");
+        assertEquals(4, queue.remainingCapacity(), "Drained jobs should free capacity.");
+
+        batch.clear();
+        assertEquals(6, queue.drainTo(batch), "drainTo should move every remaining job.");
+        assertTrue(queue.isEmpty(), "Queue should be empty after a full drain.");
+        assertEquals(0, queue.drainTo(batch), "Draining an empty queue should move nothing.");
+    }
+
+    // ========== Concurrency ==========
+
+    @Test
+    @Timeout(60)
+    void manySubmitters_fewOvens_loseNothing() throws InterruptedException {
+        int submitters = 1000;
+        int perSubmitter = 20;
+        int ovens = 4;
+        int total = submitters * perSubmitter;
+        BlockingPizzaJobQueue queue = new BlockingPizzaJobQueue(256);
+        ConcurrentLinkedQueue<Long> cooked = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int s = 0; s < submitters; s++) {
+            long base = (long) s * perSubmitter;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    for (long i = 0; i < perSubmitter; i++) {
+                        queue.put(new PizzaJob(base + i, base + i));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        for (int o = 0; o < ovens; o++) {
+            boolean batched = o % 2 == 0;
+            threads.add(new Thread(() -> {
+                List<PizzaJob> batch = new ArrayList<>();
+                try {
+                    start.await();
+                    while (cooked.size() < total) {
+                        if (batched) {
+                            batch.clear();
+                            if (queue.drainTo(batch, 16) == 0) {
+                                PizzaJob job = queue.poll(10, TimeUnit.MILLISECONDS);
+                                if (job != null) batch.add(job);
+                            }
+                            for (PizzaJob job : batch) cooked.add(job.getCookTime());
+                        } else {
+                            PizzaJob job = queue.poll(10, TimeUnit.MILLISECONDS);
+                            if (job != null) cooked.add(job.getCookTime());
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        for (Thread t : threads) t.start();
+        start.countDown();
+        for (Thread t : threads) t.join();
+
+        assertTrue(queue.isEmpty(), "Queue should be empty after every job was cooked.");
+        assertEquals(256, queue.remainingCapacity(), "Every slot should be free again.");
+        List<Long> sorted = new ArrayList<>(cooked);
+        Collections.sort(sorted);
+        assertEquals(total, sorted.size(), "Every job should be cooked once.");
+        for (int i = 0; i < total; i++) {
+            assertEquals(i, (long) sorted.get(i), "Job " + i + " should be cooked exactly once.");
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    void blockedOvens_allWakeUp() throws InterruptedException {
+        // every oven is asleep in take when the jobs arrive, one by one
+        int ovens = 8;
+        BlockingPizzaJobQueue queue = newQueue();
+        CountDownLatch done = new CountDownLatch(ovens);
+        for (int o = 0; o < ovens; o++) {
+            new Thread(() -> {
+                try {
+                    queue.take();
+                    done.countDown();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }).start();
+        }
+        Thread.sleep(50);
+        Random rand = new Random(12345);
+        for (int i = 0; i < ovens; i++) {
+            queue.put(new PizzaJob(i, rand.nextInt(100)));
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS), "Every sleeping oven should get a job.");
+        assertTrue(queue.isEmpty(), "Every job should be taken.");
+    }
+
+    // ========== Edge Cases ==========
+
+    @Test
+    void badArguments_throw() {
+        assertThrows(IllegalArgumentException.class, () -> new BlockingPizzaJobQueue(0),
+                "Zero capacity should throw.");
+        BlockingPizzaJobQueue queue = newQueue();
+        assertThrows(IllegalArgumentException.class, () -> queue.put(null), "put(null) should throw.");
+        assertThrows(IllegalArgumentException.class, () -> queue.offer(null), "offer(null) should throw.");
+        assertThrows(IllegalArgumentException.class, () -> queue.insert(null), "insert(null) should throw.");
+        assertThrows(IllegalArgumentException.class, () -> queue.drainTo(null), "drainTo(null) should throw.");
+    }
+
+    @Test
+    void clear_freesCapacity() throws InterruptedException {
+        BlockingPizzaJobQueue queue = new BlockingPizzaJobQueue(5);
+        for (int i = 0; i < 5; i++) {
+            queue.put(new PizzaJob(i, i));
+        }
+        queue.clear();
+        assertTrue(queue.isEmpty(), "Queue should be empty after clear.");
+        assertEquals(5, queue.remainingCapacity(), "clear should free every slot.");
+
+        queue.put(new PizzaJob(1, 3));
+        assertEquals(3, queue.take().getCookTime(), "Queue should work after clear.");
+    }
+}
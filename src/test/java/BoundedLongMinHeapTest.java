@@ -0,0 +1,61 @@
+import com.student_work.BoundedLongMinHeap;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class BoundedLongMinHeapTest {
+
+    @Test
+    void keepsOnlyKSmallest() {
+        BoundedLongMinHeap heap = new BoundedLongMinHeap(3);
+        long[] values = {50L, 30L, 70L, 10L, 40L, 60L, 80L, 20L};
+        for (long val : values) {
+            heap.insert(val);
+        }
+
+        assertEquals(3, heap.size(), "Heap should never hold more than K keys.");
+        assertEquals(10L, heap.delMin(), "Smallest kept key should be 10.");
+        assertEquals(20L, heap.delMin(), "Next kept key should be 20.");
+        assertEquals(30L, heap.delMin(), "Last kept key should be 30.");
+        assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+    }
+
+    @Test
+    void offer_reportsWhetherKeyWasKept() {
+        BoundedLongMinHeap heap = new BoundedLongMinHeap(2);
+        assertTrue(heap.offer(5L), "First key should be kept.");
+        assertTrue(heap.offer(9L), "Second key should be kept.");
+        assertFalse(heap.offer(9L), "A key equal to the cut-off should be rejected.");
+        assertFalse(heap.offer(12L), "A larger key should be rejected.");
+        assertTrue(heap.offer(1L), "A smaller key should evict the cut-off.");
+        assertEquals(5L, heap.maxLong(), "Cut-off should now be 5.");
+    }
+
+    @Test
+    void invalidBound_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedLongMinHeap(0),
+                "A bound of zero should be rejected.");
+    }
+
+    @Test
+    void randomStream_keepsSortedPrefix() {
+        int k = 100;
+        BoundedLongMinHeap heap = new BoundedLongMinHeap(k);
+        Random rand = new Random(12345);
+        long[] stream = new long[20000];
+        for (int i = 0; i < stream.length; i++) {
+            stream[i] = rand.nextLong();
+            heap.insertLong(stream[i]);
+        }
+        long[] sorted = stream.clone();
+        Arrays.sort(sorted);
+
+        assertEquals(k, heap.size(), "Heap should be full after a long stream.");
+        for (int i = 0; i < k; i++) {
+            assertEquals(sorted[i], heap.delMinLong(),
+                    "Kept key at position " + i + " should match the sorted stream.");
+        }
+    }
+}
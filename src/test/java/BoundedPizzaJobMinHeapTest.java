@@ -0,0 +1,33 @@
+import com.student_work.BoundedPizzaJobMinHeap;
+import com.student_work.PizzaJob;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedPizzaJobMinHeapTest {
+
+    @Test
+    void keepsOnlyKShortestJobs() {
+        BoundedPizzaJobMinHeap heap = new BoundedPizzaJobMinHeap(2);
+        long[] cookTimes = {12, 4, 9, 1, 15, 6};
+        for (int i = 0; i < cookTimes.length; i++) {
+            heap.insert(new PizzaJob(i, cookTimes[i]));
+        }
+
+        assertEquals(2, heap.size(), "Heap should never hold more than K jobs.");
+        PizzaJob first = heap.delMin();
+        assertEquals(1, first.getCookTime(), "Shortest kept job should be 1.");
+        assertEquals(3, first.getArrivalTime(), "Arrival time should travel with the job.");
+        assertEquals(4, heap.delMin().getCookTime(), "Next kept job should be 4.");
+    }
+
+    @Test
+    void offer_rejectsJobsThatCannotMakeTheCut() {
+        BoundedPizzaJobMinHeap heap = new BoundedPizzaJobMinHeap(1);
+        assertTrue(heap.offer(new PizzaJob(0, 10)), "First job should be kept.");
+        assertFalse(heap.offer(new PizzaJob(1, 10)), "A tie with the cut-off should be rejected.");
+        assertTrue(heap.offer(new PizzaJob(2, 3)), "A shorter job should evict the cut-off.");
+        assertEquals(2, heap.min().getArrivalTime(), "Kept job should be the one that arrived at 2.");
+        assertThrows(IllegalArgumentException.class, () -> heap.offer(null),
+                "Offering null should throw IllegalArgumentException.");
+    }
+}
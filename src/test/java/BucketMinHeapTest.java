@@ -0,0 +1,119 @@
+import com.student_work.BucketMinHeap;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class BucketMinHeapTest {
+
+    // Helper: create a new empty heap for keys in [0, 1000)
+    private BucketMinHeap newHeap() {
+        return new BucketMinHeap(1000);
+    }
+
+    @Test
+    void insertAndDelMin_returnsSortedOrder() {
+        BucketMinHeap heap = newHeap();
+        long[] values = {50L, 30L, 70L, 10L, 40L, 60L, 80L, 20L};
+        for (long val : values) {
+            heap.insert(val);
+        }
+
+        long[] expected = {10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], heap.delMin(),
+                    "Element at position " + i + " should be " + expected[i]);
+        }
+        assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+    }
+
+    @Test
+    void duplicates_countedSeparately() {
+        BucketMinHeap heap = newHeap();
+        for (int i = 0; i < 5; i++) {
+            heap.insertLong(7L);
+        }
+        heap.insertLong(3L);
+        assertEquals(6, heap.size(), "Every copy should count toward size.");
+        assertEquals(3L, heap.delMinLong(), "Smallest key should come out first.");
+        for (int i = 0; i < 5; i++) {
+            assertEquals(7L, heap.delMinLong(), "Each copy of 7 should come out.");
+        }
+        assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+    }
+
+    @Test
+    void interleavedOperations_matchSortedModel() {
+        // inserts below the current minimum must move the scan cursor back
+        BucketMinHeap heap = new BucketMinHeap(5000);
+        ArrayList<Long> model = new ArrayList<>();
+        Random rand = new Random(12345);
+        for (int i = 0; i < 20000; i++) {
+            if (model.isEmpty() || rand.nextInt(3) != 0) {
+                long val = rand.nextInt(5000);
+                heap.insertLong(val);
+                model.add(val);
+            } else {
+                Collections.sort(model);
+                long expected = model.remove(0);
+                assertEquals(expected, heap.minLong(), "min should match the model at step " + i + ".");
+                assertEquals(expected, heap.delMinLong(), "delMin should match the model at step " + i + ".");
+            }
+            assertEquals(model.size(), heap.size(), "Size should match the model.");
+        }
+    }
+
+    @Test
+    void boundaryKeys_accepted() {
+        BucketMinHeap heap = new BucketMinHeap(130);
+        heap.insertLong(129L);
+        heap.insertLong(0L);
+        heap.insertLong(64L);
+        heap.insertLong(63L);
+        assertEquals(0L, heap.delMinLong(), "0 should come out first.");
+        assertEquals(63L, heap.delMinLong(), "63 is the last key of the first word.");
+        assertEquals(64L, heap.delMinLong(), "64 is the first key of the second word.");
+        assertEquals(129L, heap.delMinLong(), "range - 1 should be accepted.");
+    }
+
+    @Test
+    void outOfRangeKeys_throw() {
+        BucketMinHeap heap = newHeap();
+        assertThrows(IllegalArgumentException.class, () -> heap.insertLong(-1L),
+                "Negative keys should throw.");
+        assertThrows(IllegalArgumentException.class, () -> heap.insertLong(1000L),
+                "Keys at or above the range should throw.");
+        assertTrue(heap.isEmpty(), "Rejected keys should not change the heap.");
+        assertThrows(IllegalArgumentException.class, () -> new BucketMinHeap(0),
+                "A range below 1 should throw.");
+    }
+
+    @Test
+    void clear_allowsReuse() {
+        BucketMinHeap heap = newHeap();
+        for (long i = 999; i >= 500; i--) {
+            heap.insertLong(i);
+        }
+        heap.delMinLong();
+        heap.clear();
+        assertTrue(heap.isEmpty(), "Heap should be empty after clear.");
+
+        heap.insertLong(900L);
+        heap.insertLong(800L);
+        assertEquals(800L, heap.delMinLong(), "Heap should work after clear.");
+        assertEquals(900L, heap.delMinLong(), "Keys cleared earlier should not come back.");
+        assertTrue(heap.isEmpty(), "Heap should be empty again.");
+    }
+
+    @Test
+    void emptyHeap_throwsNoSuchElementException() {
+        BucketMinHeap heap = newHeap();
+        assertThrows(NoSuchElementException.class, () -> heap.min(),
+                "min() on empty heap should throw NoSuchElementException.");
+        assertThrows(NoSuchElementException.class, () -> heap.delMin(),
+                "delMin() on empty heap should throw NoSuchElementException.");
+    }
+}
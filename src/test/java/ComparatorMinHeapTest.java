@@ -0,0 +1,161 @@
+import com.student_work.ComparatorMinHeap;
+import com.student_work.ComparatorMinHeap.DeleteStrategy;
+import com.student_work.PizzaJob;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class ComparatorMinHeapTest {
+
+    // Orders jobs by cook time, breaking ties by arrival time
+    private static final Comparator<PizzaJob> BY_COOK_THEN_ARRIVAL =
+            Comparator.comparingLong(PizzaJob::getCookTime).thenComparingLong(PizzaJob::getArrivalTime);
+
+    // Helper: create a new empty heap of longs with the given strategy
+    private ComparatorMinHeap<Long> newHeap(DeleteStrategy strategy) {
+        return new ComparatorMinHeap<>(Long::compare, 16, strategy);
+    }
+
+    // Helper: insert n random keys, drain them all, and return how many compares the drain took
+    private long countDrainCompares(DeleteStrategy strategy, int n) {
+        long[] compares = {0};
+        ComparatorMinHeap<Long> heap = new ComparatorMinHeap<>((a, b) -> {
+            compares[0]++;
+            return Long.compare(a, b);
+        }, n, strategy);
+        Random rnd = new Random(12345);
+        for (int i = 0; i < n; i++) {
+            heap.insert(rnd.nextLong());
+        }
+        compares[0] = 0;
+        long prev = Long.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            long x = heap.delMin();
+            assertTrue(x >= prev, "Drain should be non-decreasing.");
+            prev = x;
+        }
+        return compares[0];
+    }
+
+    // ========== Basic behaviour, both strategies ==========
+
+    @Test
+    void insertAndDelMin_sortedOrder_bothStrategies() {
+        for (DeleteStrategy strategy : DeleteStrategy.values()) {
+            ComparatorMinHeap<Long> heap = newHeap(strategy);
+            List<Long> expected = new ArrayList<>();
+            Random rnd = new Random(12345);
+            for (int i = 0; i < 1000; i++) {
+                long x = rnd.nextInt(500);
+                heap.insert(x);
+                expected.add(x);
+            }
+            Collections.sort(expected);
+            for (long x : expected) {
+                assertEquals(x, heap.delMin(), strategy + " should drain in sorted order.");
+            }
+            assertTrue(heap.isEmpty(), strategy + " heap should be empty after draining.");
+        }
+    }
+
+    @Test
+    void interleavedOperations_matchSortedList_bothStrategies() {
+        for (DeleteStrategy strategy : DeleteStrategy.values()) {
+            ComparatorMinHeap<Long> heap = newHeap(strategy);
+            List<Long> model = new ArrayList<>();
+            Random rnd = new Random(12345);
+            for (int i = 0; i < 5000; i++) {
+                if (model.isEmpty() || rnd.nextInt(3) != 0) {
+                    long x = rnd.nextInt(100);
+                    heap.insert(x);
+                    model.add(x);
+                } else {
+                    Collections.sort(model);
+                    assertEquals(model.remove(0), heap.delMin(), strategy + " delMin should match the model.");
+                }
+                assertEquals(model.size(), heap.size(), strategy + " size should match the model.");
+            }
+        }
+    }
+
+    @Test
+    void comparator_breaksCookTimeTiesByArrival() {
+        ComparatorMinHeap<PizzaJob> heap = new ComparatorMinHeap<>(BY_COOK_THEN_ARRIVAL, 4, DeleteStrategy.BOTTOM_UP);
+        PizzaJob late = new PizzaJob(9, 5);
+        PizzaJob early = new PizzaJob(1, 5);
+        PizzaJob quick = new PizzaJob(4, 2);
+        heap.insert(late);
+        heap.insert(early);
+        heap.insert(quick);
+
+        assertSame(quick, heap.delMin(), "Shortest cook time should come first.");
+        assertSame(early, heap.delMin(), "Equal cook times should go to the earlier arrival.");
+        assertSame(late, heap.delMin(), "Later arrival should come last.");
+    }
+
+    @Test
+    void strategy_reportsConstructorChoice() {
+        assertEquals(DeleteStrategy.BOTTOM_UP, newHeap(DeleteStrategy.BOTTOM_UP).strategy(),
+                "strategy() should return the chosen strategy.");
+        assertEquals(DeleteStrategy.TOP_DOWN, new ComparatorMinHeap<Long>(Long::compare).strategy(),
+                "Default strategy should be TOP_DOWN.");
+    }
+
+    // ========== Comparison counts ==========
+
+    @Test
+    void bottomUp_usesFewerComparesThanTopDown() {
+        int n = 1 << 14;
+        long topDown = countDrainCompares(DeleteStrategy.TOP_DOWN, n);
+        long bottomUp = countDrainCompares(DeleteStrategy.BOTTOM_UP, n);
+        assertTrue(bottomUp < topDown * 0.65,
+                "Bottom-up should need well under top-down's compares: " + bottomUp + " vs " + topDown);
+    }
+
+    @Test
+    void bottomUp_comparesPerDelMinCloseToLog2n() {
+        int n = 1 << 14;
+        double log2n = 14;
+        double perDelMin = (double) countDrainCompares(DeleteStrategy.BOTTOM_UP, n) / n;
+        assertTrue(perDelMin <= 1.1 * log2n,
+                "Bottom-up delMin should take about log2 n compares, took " + perDelMin);
+    }
+
+    @Test
+    void topDown_comparesPerDelMinNearTwiceLog2n() {
+        int n = 1 << 14;
+        double log2n = 14;
+        double perDelMin = (double) countDrainCompares(DeleteStrategy.TOP_DOWN, n) / n;
+        assertTrue(perDelMin >= 1.5 * log2n,
+                "Top-down delMin should take close to 2 log2 n compares, took " + perDelMin);
+    }
+
+    // ========== Edge cases ==========
+
+    @Test
+    void delMin_emptyHeap_throws() {
+        ComparatorMinHeap<Long> heap = newHeap(DeleteStrategy.BOTTOM_UP);
+        assertThrows(NoSuchElementException.class, heap::delMin, "delMin on empty heap should throw.");
+        assertThrows(NoSuchElementException.class, heap::min, "min on empty heap should throw.");
+    }
+
+    @Test
+    void insert_null_throws() {
+        ComparatorMinHeap<Long> heap = newHeap(DeleteStrategy.BOTTOM_UP);
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(null), "Inserting null should throw.");
+    }
+
+    @Test
+    void constructor_nullArguments_throw() {
+        assertThrows(IllegalArgumentException.class, () -> new ComparatorMinHeap<Long>(null),
+                "Null comparator should throw.");
+        assertThrows(IllegalArgumentException.class, () -> new ComparatorMinHeap<Long>(Long::compare, 4, null),
+                "Null strategy should throw.");
+    }
+}
@@ -3,6 +3,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
 import java.io.*;
+import java.util.PriorityQueue;
+import java.util.Random;
 
 public class CookieSolverTest {
 
@@ -456,4 +458,75 @@ public class CookieSolverTest {
         // Many values below 20, will need mixing
         assertTrue(result > 0);
     }
-}
\ No newline at end of file
+
+    // ========== Bucketed and Heap Paths ==========
+
+    // Reference answer from a plain PriorityQueue simulation
+    private int referenceCookies(long k, long[] A) {
+        PriorityQueue<Long> pq = new PriorityQueue<>();
+        for (long a : A) pq.add(a);
+        int ops = 0;
+        while (pq.size() > 1 && pq.peek() < k) {
+            long least = pq.poll();
+            pq.add(least + 2 * pq.poll());
+            ops++;
+        }
+        return pq.peek() >= k ? ops : -1;
+    }
+
+    @Test
+    public void testSmallK_bucketedPathMatchesReference() {
+        // k is small next to the input, so the solver queues sweetness in buckets
+        Random rand = new Random(12345);
+        for (int trial = 0; trial < 50; trial++) {
+            long[] A = new long[1 + rand.nextInt(200)];
+            for (int i = 0; i < A.length; i++) A[i] = rand.nextInt(1000);
+            long k = 1 + rand.nextInt(5000);
+            assertEquals(referenceCookies(k, A), CookieSolver.cookies(k, A),
+                    "Trial " + trial + " should match the reference.");
+        }
+    }
+
+    @Test
+    public void testLargeK_heapPathMatchesReference() {
+        // k far above the bucket limit keeps the solver on LongMinHeap
+        Random rand = new Random(12345);
+        for (int trial = 0; trial < 50; trial++) {
+            long[] A = new long[1 + rand.nextInt(200)];
+            for (int i = 0; i < A.length; i++) A[i] = rand.nextInt(1000);
+            long k = 1_000_000_000L + rand.nextInt(1000);
+            assertEquals(referenceCookies(k, A), CookieSolver.cookies(k, A),
+                    "Trial " + trial + " should match the reference.");
+        }
+    }
+
+    @Test
+    public void testCookiesAboveK_cappedWithoutChangingAnswer() {
+        long[] A = {1L, 2L, 1_000_000_000L, 3L};
+        assertEquals(2, CookieSolver.cookies(7L, A));
+    }
+
+    @Test
+    public void testManyDuplicates_runLengthPathMatchesReference() {
+        // few distinct sweetness values and a large k send the solver to RunLengthLongHeap
+        Random rand = new Random(12345);
+        for (int trial = 0; trial < 20; trial++) {
+            long[] A = new long[1000 + rand.nextInt(1000)];
+            for (int i = 0; i < A.length; i++) A[i] = rand.nextInt(6);
+            long k = 1_000_000_000L + rand.nextInt(1000);
+            assertEquals(referenceCookies(k, A), CookieSolver.cookies(k, A),
+                    "Trial " + trial + " should match the reference.");
+        }
+    }
+
+    @Test
+    public void testManyNegativeDuplicates_runLengthPathMatchesReference() {
+        // negative runs have to be mixed one pair at a time
+        Random rand = new Random(12345);
+        long[] A = new long[2000];
+        for (int i = 0; i < A.length; i++) A[i] = rand.nextInt(7) - 3;
+        long k = 1_000_000_000L;
+        assertEquals(referenceCookies(k, A), CookieSolver.cookies(k, A),
+                "Negative duplicates should match the reference.");
+    }
+}
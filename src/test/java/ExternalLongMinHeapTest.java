@@ -0,0 +1,115 @@
+import com.student_work.ExternalLongMinHeap;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class ExternalLongMinHeapTest {
+
+    // Helper: tiny buffer so tests spill after a handful of inserts
+    private ExternalLongMinHeap newHeap() {
+        return new ExternalLongMinHeap(8);
+    }
+
+    @Test
+    void inMemoryOnly_behavesLikeLongMinHeap() {
+        try (ExternalLongMinHeap heap = newHeap()) {
+            long[] values = {5L, 3L, 7L, 1L};
+            for (long val : values) {
+                heap.insert(val);
+            }
+
+            assertEquals(0, heap.runCount(), "Nothing should spill below buffer capacity.");
+            assertEquals(1L, heap.delMin(), "First min should be 1.");
+            assertEquals(3L, heap.delMin(), "Second min should be 3.");
+            assertEquals(2, heap.size(), "Two keys should remain.");
+        }
+    }
+
+    @Test
+    void emptyHeap_throwsNoSuchElementException() {
+        try (ExternalLongMinHeap heap = newHeap()) {
+            assertThrows(NoSuchElementException.class, () -> heap.min(),
+                    "min() on empty heap should throw NoSuchElementException.");
+            assertThrows(NoSuchElementException.class, () -> heap.delMin(),
+                    "delMin() on empty heap should throw NoSuchElementException.");
+        }
+    }
+
+    @Test
+    void spilledRuns_mergeWithBufferInSortedOrder() {
+        try (ExternalLongMinHeap heap = newHeap()) {
+            Random rand = new Random(12345);
+            ArrayList<Long> values = new ArrayList<>();
+
+            // enough keys to spill past the run limit and force a merge
+            for (int i = 0; i < 2000; i++) {
+                long val = rand.nextInt(100000);
+                values.add(val);
+                heap.insertLong(val);
+            }
+            assertTrue(heap.runCount() > 0, "Inserts past the buffer should spill runs.");
+            // 249 spills are 15 * 16 + 9: fifteen merged runs and nine spilled ones
+            assertEquals(24, heap.runCount(), "Every full level should have been merged.");
+            Collections.sort(values);
+
+            assertEquals(values.size(), heap.sizeLong(), "sizeLong should count buffered and spilled keys.");
+            for (int i = 0; i < values.size(); i++) {
+                assertEquals(values.get(i), heap.delMinLong(),
+                        "Element at position " + i + " should match sorted order.");
+            }
+            assertEquals(0, heap.runCount(), "Drained runs should be deleted.");
+        }
+    }
+
+    @Test
+    void manySpills_mergeLevelByLevel() {
+        try (ExternalLongMinHeap heap = new ExternalLongMinHeap(1)) {
+            // with one key per run, the run count is the digit sum of the spill count in base 16
+            int spills = 16 * 16 * 16 + 16 + 1;
+            for (int i = 0; i <= spills; i++) {
+                heap.insertLong(spills - i);
+            }
+            assertEquals(3, heap.runCount(), "One run should be left on each of three levels.");
+            for (long i = 0; i <= spills; i++) {
+                assertEquals(i, heap.delMinLong(), "Keys should come out in sorted order.");
+            }
+            assertEquals(0, heap.runCount(), "Drained runs should be deleted.");
+        }
+    }
+
+    @Test
+    void interleavedInsertsAfterSpill_stayOrdered() {
+        try (ExternalLongMinHeap heap = newHeap()) {
+            for (long i = 100; i < 140; i++) {
+                heap.insertLong(i);
+            }
+            assertEquals(100L, heap.delMinLong(), "Min should come from a spilled run.");
+
+            heap.insertLong(5L);
+            heap.insertLong(101L);
+            assertEquals(5L, heap.delMinLong(), "A new smaller key should come from the buffer.");
+            assertEquals(101L, heap.delMinLong(), "Equal keys may come from either side.");
+            assertEquals(101L, heap.delMinLong(), "The duplicate should follow.");
+            assertEquals(102L, heap.minLong(), "Next key should be 102.");
+        }
+    }
+
+    @Test
+    void clear_deletesRunsAndAllowsReuse() {
+        try (ExternalLongMinHeap heap = newHeap()) {
+            for (long i = 0; i < 100; i++) {
+                heap.insertLong(i);
+            }
+            heap.clear();
+            assertTrue(heap.isEmpty(), "Heap should be empty after clear.");
+            assertEquals(0, heap.runCount(), "clear should delete every run.");
+
+            heap.insertLong(7L);
+            assertEquals(7L, heap.minLong(), "Heap should work after clear.");
+        }
+    }
+}
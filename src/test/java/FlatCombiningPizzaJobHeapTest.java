@@ -0,0 +1,207 @@
+import com.student_work.FlatCombiningPizzaJobHeap;
+import com.student_work.PizzaJob;
+import com.student_work.PizzaJobMinHeap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+public class FlatCombiningPizzaJobHeapTest {
+
+    // Helper: create a new empty heap
+    private FlatCombiningPizzaJobHeap newHeap() {
+        return new FlatCombiningPizzaJobHeap();
+    }
+
+    @Test
+    void insertAndDelMin_returnJobsInCookTimeOrder() {
+        FlatCombiningPizzaJobHeap heap = newHeap();
+        long[] cookTimes = {50, 30, 70, 10, 40, 60, 80, 20};
+        for (int i = 0; i < cookTimes.length; i++) {
+            heap.insert(new PizzaJob(i, cookTimes[i]));
+        }
+        assertEquals(8, heap.size(), "Size should count every insert.");
+        assertEquals(10, heap.min().getCookTime(), "min should be the shortest job.");
+
+        long[] expected = {10, 20, 30, 40, 50, 60, 70, 80};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], heap.delMin().getCookTime(),
+                    "Job at position " + i + " should have cook time " + expected[i]);
+        }
+        assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+    }
+
+    @Test
+    void singleThread_matchesPizzaJobMinHeap() {
+        FlatCombiningPizzaJobHeap heap = newHeap();
+        PizzaJobMinHeap model = new PizzaJobMinHeap();
+        Random rand = new Random(12345);
+        for (int i = 0; i < 20000; i++) {
+            if (model.isEmpty() || rand.nextInt(5) < 3) {
+                PizzaJob job = new PizzaJob(i, rand.nextInt(1000));
+                heap.insert(job);
+                model.insert(job);
+            } else {
+                assertEquals(model.delMin().getCookTime(), heap.delMin().getCookTime(),
+                        "delMin should match PizzaJobMinHeap at step " + i + ".");
+            }
+            assertEquals(model.size(), heap.size(), "Size should match PizzaJobMinHeap.");
+        }
+    }
+
+    // ========== Concurrency ==========
+
+    @Test
+    @Timeout(60)
+    void concurrentInsertsAndDeletes_loseNothing() throws InterruptedException {
+        int threads = 16;
+        int perThread = 5000;
+        FlatCombiningPizzaJobHeap heap = newHeap();
+        ConcurrentLinkedQueue<Long> removed = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            long base = (long) t * perThread;
+            workers.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                // each thread inserts its jobs and removes as many, mixing the two
+                int taken = 0;
+                for (long i = 0; i < perThread; i++) {
+                    heap.insert(new PizzaJob(base + i, base + i));
+                    if ((i & 1) == 1) {
+                        removed.add(heap.delMin().getCookTime());
+                        taken++;
+                    }
+                }
+                while (taken < perThread) {
+                    removed.add(heap.delMin().getCookTime());
+                    taken++;
+                }
+            }));
+        }
+        for (Thread w : workers) w.start();
+        start.countDown();
+        for (Thread w : workers) w.join();
+
+        assertTrue(heap.isEmpty(), "Heap should be empty after every thread finished.");
+        List<Long> sorted = new ArrayList<>(removed);
+        Collections.sort(sorted);
+        assertEquals(threads * perThread, sorted.size(), "Every job should be removed once.");
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(i, (long) sorted.get(i), "Job " + i + " should be removed exactly once.");
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void idleThreads_areUnlinkedAndCanComeBack() throws InterruptedException {
+        FlatCombiningPizzaJobHeap heap = newHeap();
+        // a thread that uses the heap once and then goes idle
+        Thread visitor = new Thread(() -> heap.insert(new PizzaJob(0, 1)));
+        visitor.start();
+        visitor.join();
+        // enough scans from this thread to age the visitor's slot out
+        for (int i = 0; i < 2 * FlatCombiningPizzaJobHeap.STALE_SCANS; i++) {
+            heap.insert(new PizzaJob(i, 0));
+            heap.delMin();
+        }
+        assertEquals(1, heap.size(), "Only the visitor's job should remain.");
+        assertEquals(1, heap.delMin().getCookTime(), "The visitor's job should still be there.");
+
+        Thread returning = new Thread(() -> heap.insert(new PizzaJob(9, 5)));
+        returning.start();
+        returning.join();
+        assertEquals(5, heap.delMin().getCookTime(), "A new thread should be served after others left.");
+    }
+
+    @Test
+    @Timeout(60)
+    void constantUnlinking_neverServesARequestTwice() throws InterruptedException {
+        // a slot idle for a single scan is unlinked, so slots are unlinked and relinked all the time
+        int threads = 8;
+        int perThread = 5000;
+        FlatCombiningPizzaJobHeap heap = new FlatCombiningPizzaJobHeap(new PizzaJobMinHeap(), 1);
+        ConcurrentLinkedQueue<Long> removed = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            long base = (long) t * perThread;
+            workers.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (long i = 0; i < perThread; i++) {
+                    heap.insert(new PizzaJob(base + i, base + i));
+                    // pause now and then so the other threads' scans find this slot idle
+                    if (i % 8 == 0) Thread.yield();
+                    removed.add(heap.delMin().getCookTime());
+                }
+            }));
+        }
+        for (Thread w : workers) w.start();
+        start.countDown();
+        for (Thread w : workers) w.join();
+
+        assertTrue(heap.isEmpty(), "Heap should be empty after every thread finished.");
+        List<Long> sorted = new ArrayList<>(removed);
+        Collections.sort(sorted);
+        assertEquals(threads * perThread, sorted.size(), "Every job should be removed once.");
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(i, (long) sorted.get(i), "Job " + i + " should be removed exactly once.");
+        }
+    }
+
+    // ========== Edge Cases ==========
+
+    @Test
+    void emptyHeap_throwsIllegalStateException() {
+        FlatCombiningPizzaJobHeap heap = newHeap();
+        assertThrows(IllegalStateException.class, () -> heap.min(),
+                "min() on empty heap should throw IllegalStateException.");
+        assertThrows(IllegalStateException.class, () -> heap.delMin(),
+                "delMin() on empty heap should throw IllegalStateException.");
+        heap.insert(new PizzaJob(1, 2));
+        assertEquals(2, heap.delMin().getCookTime(), "Heap should work after an underflow.");
+    }
+
+    @Test
+    void badArguments_throw() {
+        assertThrows(IllegalArgumentException.class, () -> newHeap().insert(null), "Inserting null should throw.");
+        assertThrows(IllegalArgumentException.class, () -> new FlatCombiningPizzaJobHeap(null),
+                "A null heap should throw.");
+        PizzaJobMinHeap full = new PizzaJobMinHeap();
+        full.insert(new PizzaJob(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new FlatCombiningPizzaJobHeap(full),
+                "A non-empty heap should throw.");
+        assertThrows(IllegalArgumentException.class, () -> new FlatCombiningPizzaJobHeap(new PizzaJobMinHeap(), 0),
+                "A stale scan count below 1 should throw.");
+    }
+
+    @Test
+    void clear_allowsReuse() {
+        FlatCombiningPizzaJobHeap heap = newHeap();
+        for (int i = 0; i < 100; i++) {
+            heap.insert(new PizzaJob(i, 100 - i));
+        }
+        heap.clear();
+        assertTrue(heap.isEmpty(), "Heap should be empty after clear.");
+        heap.insert(new PizzaJob(1, 9));
+        assertEquals(9, heap.delMin().getCookTime(), "Heap should work after clear.");
+    }
+}
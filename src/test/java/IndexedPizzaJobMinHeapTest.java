@@ -0,0 +1,137 @@
+import com.student_work.IndexedPizzaJobMinHeap;
+import com.student_work.PizzaJob;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class IndexedPizzaJobMinHeapTest {
+
+    // Helper: create a new empty heap
+    private IndexedPizzaJobMinHeap newHeap() {
+        return new IndexedPizzaJobMinHeap();
+    }
+
+    // ========== Basic Operation Tests ==========
+
+    @Test
+    void insertAndDelMin_returnsJobsInCookTimeOrder() {
+        IndexedPizzaJobMinHeap heap = newHeap();
+        long[] cookTimes = {50, 30, 70, 10, 40, 60, 80, 20};
+
+        for (int i = 0; i < cookTimes.length; i++) {
+            heap.insert(new PizzaJob(i, cookTimes[i]));
+        }
+
+        long[] expected = {10, 20, 30, 40, 50, 60, 70, 80};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], heap.delMin().getCookTime(),
+                    "Job at position " + i + " should have cook time " + expected[i]);
+        }
+        assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+    }
+
+    @Test
+    void emptyHeap_throwsIllegalStateException() {
+        IndexedPizzaJobMinHeap heap = newHeap();
+        assertThrows(IllegalStateException.class, () -> heap.min(),
+                "min() on empty heap should throw IllegalStateException.");
+        assertThrows(IllegalStateException.class, () -> heap.delMin(),
+                "delMin() on empty heap should throw IllegalStateException.");
+    }
+
+    // ========== Handle Tests ==========
+
+    @Test
+    void handle_identifiesInsertedJob() {
+        IndexedPizzaJobMinHeap heap = newHeap();
+        PizzaJob job = new PizzaJob(3, 9);
+        int h = heap.insertWithHandle(job);
+
+        assertTrue(heap.contains(h), "Heap should contain a fresh handle.");
+        assertSame(job, heap.get(h), "get() should return the inserted job.");
+        assertFalse(heap.contains(h + 1), "Unissued handle should not be contained.");
+        assertFalse(heap.contains(-1), "Negative handle should not be contained.");
+    }
+
+    @Test
+    void changeKey_movesJobBothWays() {
+        IndexedPizzaJobMinHeap heap = newHeap();
+        int a = heap.insertWithHandle(new PizzaJob(1, 10));
+        int b = heap.insertWithHandle(new PizzaJob(2, 20));
+        heap.insertWithHandle(new PizzaJob(3, 30));
+
+        heap.changeKey(b, 5);
+        assertEquals(b, heap.minHandle(), "Lowered job should become the min.");
+        assertEquals(2, heap.min().getArrivalTime(), "changeKey should keep the arrival time.");
+
+        heap.changeKey(b, 40);
+        assertEquals(a, heap.minHandle(), "Raised job should sink below the others.");
+        assertEquals(10, heap.delMin().getCookTime());
+        assertEquals(30, heap.delMin().getCookTime());
+        assertEquals(40, heap.delMin().getCookTime());
+    }
+
+    @Test
+    void decreaseKey_rejectsNonDecreasingKey() {
+        IndexedPizzaJobMinHeap heap = newHeap();
+        int h = heap.insertWithHandle(new PizzaJob(1, 10));
+
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(h, 10),
+                "decreaseKey with an equal key should be rejected.");
+        heap.decreaseKey(h, 4);
+        assertEquals(4, heap.get(h).getCookTime(), "decreaseKey should lower the cook time.");
+    }
+
+    @Test
+    void remove_cancelsJobAndInvalidatesHandle() {
+        IndexedPizzaJobMinHeap heap = newHeap();
+        heap.insertWithHandle(new PizzaJob(1, 10));
+        int h = heap.insertWithHandle(new PizzaJob(2, 5));
+        heap.insertWithHandle(new PizzaJob(3, 15));
+
+        assertEquals(5, heap.remove(h).getCookTime(), "remove should return the cancelled job.");
+        assertFalse(heap.contains(h), "Removed handle should no longer be contained.");
+        assertEquals(2, heap.size(), "Size should drop after remove.");
+        assertThrows(NoSuchElementException.class, () -> heap.remove(h),
+                "Removing the same handle twice should throw.");
+        assertEquals(10, heap.delMin().getCookTime());
+        assertEquals(15, heap.delMin().getCookTime());
+    }
+
+    // ========== Stress Tests ==========
+
+    @Test
+    void randomOperations_matchReferenceOrder() {
+        IndexedPizzaJobMinHeap heap = new IndexedPizzaJobMinHeap(1);
+        Random rand = new Random(12345);
+        ArrayList<Integer> live = new ArrayList<>();
+        ArrayList<Long> expected = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            live.add(heap.insertWithHandle(new PizzaJob(i, rand.nextInt(1000))));
+        }
+        for (int i = 0; i < 500; i++) {
+            int h = live.remove(rand.nextInt(live.size()));
+            if (i % 2 == 0) {
+                heap.remove(h);
+            } else {
+                heap.changeKey(h, rand.nextInt(1000));
+                live.add(h);
+            }
+        }
+        for (int h : live) {
+            expected.add(heap.get(h).getCookTime());
+        }
+        Collections.sort(expected);
+
+        assertEquals(expected.size(), heap.size(), "Size should match live handles.");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), heap.delMin().getCookTime(),
+                    "Job at position " + i + " should match sorted cook time order.");
+        }
+    }
+}
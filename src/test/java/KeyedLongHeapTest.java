@@ -0,0 +1,121 @@
+import com.student_work.KeyedLongHeap;
+import com.student_work.PizzaJob;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class KeyedLongHeapTest {
+
+    // Helper: create a new empty heap of pizza jobs keyed by cook time
+    private KeyedLongHeap<PizzaJob> newHeap() {
+        return new KeyedLongHeap<>(PizzaJob::getCookTime);
+    }
+
+    @Test
+    void insertAndDelMin_returnsSameInstancesInKeyOrder() {
+        KeyedLongHeap<PizzaJob> heap = newHeap();
+        PizzaJob a = new PizzaJob(1, 5);
+        PizzaJob b = new PizzaJob(2, 3);
+        PizzaJob c = new PizzaJob(3, 7);
+        heap.insert(a);
+        heap.insert(b);
+        heap.insert(c);
+
+        assertEquals(3, heap.minKey(), "minKey should be the smallest cook time.");
+        assertSame(b, heap.delMin(), "delMin should return the inserted instance.");
+        assertSame(a, heap.delMin(), "Second delMin should return the 5-minute job.");
+        assertSame(c, heap.delMin(), "Third delMin should return the 7-minute job.");
+        assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+    }
+
+    @Test
+    void keyFunction_calledOncePerInsert() {
+        int[] calls = {0};
+        KeyedLongHeap<String> heap = new KeyedLongHeap<>(s -> {
+            calls[0]++;
+            return s.length();
+        });
+        String[] words = {"pepperoni", "ham", "margherita", "veggie", "bbq", "hawaiian"};
+        for (String w : words) {
+            heap.insert(w);
+        }
+        while (!heap.isEmpty()) {
+            heap.delMin();
+        }
+
+        assertEquals(words.length, calls[0], "Keys should be extracted once per insert, never while sifting.");
+    }
+
+    @Test
+    void insertAll_smallAndLargeBatches_keepHeapOrder() {
+        KeyedLongHeap<PizzaJob> heap = newHeap();
+        Random rand = new Random(12345);
+        ArrayList<PizzaJob> all = new ArrayList<>();
+        // a large batch into an empty heap is rebuilt, small ones into a big heap are swum in
+        int[] batchSizes = {1000, 3, 1, 500, 7};
+        for (int size : batchSizes) {
+            ArrayList<PizzaJob> batch = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                batch.add(new PizzaJob(i, rand.nextInt(10000)));
+            }
+            heap.insertAll(batch);
+            all.addAll(batch);
+        }
+        assertEquals(all.size(), heap.size(), "Size should count every batch.");
+
+        all.sort((x, y) -> Long.compare(x.getCookTime(), y.getCookTime()));
+        for (int i = 0; i < all.size(); i++) {
+            PizzaJob job = heap.delMin();
+            assertEquals(all.get(i).getCookTime(), job.getCookTime(), "Job " + i + " should be in key order.");
+            assertTrue(all.contains(job), "insertAll should keep the inserted instances.");
+        }
+    }
+
+    @Test
+    void insertAll_withNull_leavesHeapUnchanged() {
+        KeyedLongHeap<PizzaJob> heap = newHeap();
+        PizzaJob only = new PizzaJob(1, 5);
+        heap.insert(only);
+        ArrayList<PizzaJob> batch = new ArrayList<>();
+        batch.add(new PizzaJob(2, 1));
+        batch.add(null);
+        assertThrows(IllegalArgumentException.class, () -> heap.insertAll(batch),
+                "A null in the batch should throw.");
+        assertEquals(1, heap.size(), "A rejected batch should not change the size.");
+        assertSame(only, heap.min(), "A rejected batch should not change the min.");
+    }
+
+    @Test
+    void emptyHeap_throwsNoSuchElementException() {
+        KeyedLongHeap<PizzaJob> heap = newHeap();
+        assertThrows(NoSuchElementException.class, () -> heap.min(),
+                "min() on empty heap should throw NoSuchElementException.");
+        assertThrows(NoSuchElementException.class, () -> heap.delMin(),
+                "delMin() on empty heap should throw NoSuchElementException.");
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(null),
+                "Inserting null should throw IllegalArgumentException.");
+    }
+
+    @Test
+    void randomInsertions_producesSortedOutput() {
+        KeyedLongHeap<PizzaJob> heap = new KeyedLongHeap<>(PizzaJob::getCookTime, 0, 2);
+        Random rand = new Random(12345);
+        ArrayList<Long> cookTimes = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            long cookTime = Math.abs(rand.nextLong() % 10000);
+            cookTimes.add(cookTime);
+            heap.insert(new PizzaJob(i, cookTime));
+        }
+        Collections.sort(cookTimes);
+
+        for (int i = 0; i < cookTimes.size(); i++) {
+            assertEquals(cookTimes.get(i), heap.delMin().getCookTime(),
+                    "Job at position " + i + " should match sorted cook time order.");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+import com.student_work.LeftistPizzaJobHeap;
+import com.student_work.PizzaJob;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+
+public class LeftistPizzaJobHeapTest {
+
+    // Helper: create a new empty heap
+    private LeftistPizzaJobHeap newHeap() {
+        return new LeftistPizzaJobHeap();
+    }
+
+    @Test
+    void insertAndDelMin_returnsJobsInCookTimeOrder() {
+        LeftistPizzaJobHeap heap = newHeap();
+        long[] cookTimes = {50, 30, 70, 10, 40, 60, 80, 20};
+        for (int i = 0; i < cookTimes.length; i++) {
+            heap.insert(new PizzaJob(i, cookTimes[i]));
+        }
+
+        long[] expected = {10, 20, 30, 40, 50, 60, 70, 80};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], heap.delMin().getCookTime(),
+                    "Job at position " + i + " should have cook time " + expected[i]);
+        }
+        assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+    }
+
+    @Test
+    void emptyHeap_throwsIllegalStateException() {
+        LeftistPizzaJobHeap heap = newHeap();
+        assertThrows(IllegalStateException.class, () -> heap.min(),
+                "min() on empty heap should throw IllegalStateException.");
+        assertThrows(IllegalStateException.class, () -> heap.delMin(),
+                "delMin() on empty heap should throw IllegalStateException.");
+    }
+
+    @Test
+    void meld_combinesShardsAndEmptiesOther() {
+        LeftistPizzaJobHeap counterA = newHeap();
+        LeftistPizzaJobHeap counterB = newHeap();
+        counterA.insert(new PizzaJob(1, 8));
+        counterA.insert(new PizzaJob(2, 2));
+        counterB.insert(new PizzaJob(3, 5));
+        counterB.insert(new PizzaJob(4, 1));
+        counterB.insert(new PizzaJob(5, 9));
+
+        counterA.meld(counterB);
+
+        assertEquals(5, counterA.size(), "Melded heap should hold both shards.");
+        assertTrue(counterB.isEmpty(), "The melded-in shard should be empty.");
+        long[] expected = {1, 2, 5, 8, 9};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], counterA.delMin().getCookTime(),
+                    "Job at position " + i + " should have cook time " + expected[i]);
+        }
+    }
+
+    @Test
+    void meldWithItself_throwsIllegalArgumentException() {
+        LeftistPizzaJobHeap heap = newHeap();
+        heap.insert(new PizzaJob(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> heap.meld(heap),
+                "Melding a heap with itself should be rejected.");
+    }
+
+    @Test
+    void randomShards_meldToSortedOutput() {
+        Random rand = new Random(12345);
+        LeftistPizzaJobHeap merged = newHeap();
+        ArrayList<Long> cookTimes = new ArrayList<>();
+
+        for (int shard = 0; shard < 20; shard++) {
+            LeftistPizzaJobHeap counter = newHeap();
+            for (int i = 0; i < 500; i++) {
+                long cookTime = rand.nextInt(10000);
+                cookTimes.add(cookTime);
+                counter.insert(new PizzaJob(i, cookTime));
+            }
+            merged.meld(counter);
+        }
+        Collections.sort(cookTimes);
+
+        assertEquals(cookTimes.size(), merged.size(), "Size should count every job.");
+        for (int i = 0; i < cookTimes.size(); i++) {
+            assertEquals(cookTimes.get(i), merged.delMin().getCookTime(),
+                    "Job at position " + i + " should match sorted cook time order.");
+        }
+    }
+}
@@ -569,4 +569,252 @@ public class LongMinHeapTest {
 
         assertTrue(heap.isEmpty(), "Heap should be empty after balanced insert/delMin operations.");
     }
-}
\ No newline at end of file
+
+    // ========== Primitive API Tests ==========
+
+    @Test
+    void primitiveInsertAndDelMin_returnsSortedOrder() {
+        LongMinHeap heap = newHeap();
+        long[] values = {9L, -4L, 0L, 12L, 3L, 3L};
+
+        for (long val : values) {
+            heap.insertLong(val);
+        }
+
+        assertEquals(-4L, heap.minLong(), "minLong should return the smallest key.");
+        long[] expected = {-4L, 0L, 3L, 3L, 9L, 12L};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], heap.delMinLong(),
+                    "Element at position " + i + " should be " + expected[i]);
+        }
+        assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+    }
+
+    @Test
+    void primitiveAndBoxedApis_shareState() {
+        LongMinHeap heap = newHeap();
+        heap.insertLong(5L);
+        heap.insert(2L);
+        heap.insertLong(8L);
+
+        assertEquals(3, heap.size(), "Both insert paths should update size.");
+        assertEquals(2L, heap.minLong(), "minLong should see boxed inserts.");
+        assertEquals(2L, heap.delMin(), "delMin should see primitive inserts.");
+        assertEquals(5L, heap.delMinLong(), "delMinLong should return next smallest.");
+    }
+
+    @Test
+    void primitiveMinOnEmptyHeap_throwsNoSuchElementException() {
+        LongMinHeap heap = newHeap();
+        assertThrows(NoSuchElementException.class, () -> heap.minLong(),
+                "minLong() on empty heap should throw NoSuchElementException.");
+        assertThrows(NoSuchElementException.class, () -> heap.delMinLong(),
+                "delMinLong() on empty heap should throw NoSuchElementException.");
+    }
+
+    // ========== Arity Tests ==========
+
+    @Test
+    void everyArity_producesSortedOutput() {
+        Random rand = new Random(2341);
+        for (int d = 2; d <= 8; d++) {
+            LongMinHeap heap = new LongMinHeap(1, d);
+            ArrayList<Long> values = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                long val = rand.nextInt(100);
+                values.add(val);
+                heap.insertLong(val);
+            }
+            Collections.sort(values);
+            for (int i = 0; i < values.size(); i++) {
+                assertEquals(values.get(i), heap.delMin(),
+                        "Arity " + d + ": element at position " + i + " should match sorted order.");
+            }
+        }
+    }
+
+    @Test
+    void arityBelowTwo_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LongMinHeap(10, 1),
+                "Arity 1 should be rejected.");
+        assertEquals(LongMinHeap.DEFAULT_ARITY, newHeap().arity(),
+                "Default constructor should use the default arity.");
+    }
+
+    // ========== Bulk Construction Tests ==========
+
+    @Test
+    void arrayConstructor_buildsValidHeapWithoutModifyingSource() {
+        long[] src = {23L, 17L, 14L, 6L, 13L, 10L, 1L, 5L, 7L, 12L};
+        long[] copy = src.clone();
+        LongMinHeap heap = new LongMinHeap(src);
+
+        assertEquals(src.length, heap.size(), "Heap should hold every source key.");
+        assertArrayEquals(copy, src, "Source array must not be modified.");
+
+        java.util.Arrays.sort(copy);
+        for (int i = 0; i < copy.length; i++) {
+            assertEquals(copy[i], heap.delMinLong(),
+                    "Element at position " + i + " should be " + copy[i]);
+        }
+    }
+
+    @Test
+    void arrayConstructor_emptySourceStillWorks() {
+        LongMinHeap heap = new LongMinHeap(new long[0]);
+        assertTrue(heap.isEmpty(), "Heap built from empty array should be empty.");
+        heap.insertLong(3L);
+        assertEquals(3L, heap.minLong(), "Heap should accept inserts after empty build.");
+    }
+
+    @Test
+    void insertAll_smallAndLargeBatches_produceSortedOutput() {
+        Random rand = new Random(7);
+        LongMinHeap heap = newHeap();
+        ArrayList<Long> values = new ArrayList<>();
+        int[] batchSizes = {50, 3, 200, 1, 0, 40};
+
+        for (int size : batchSizes) {
+            long[] batch = new long[size];
+            for (int i = 0; i < size; i++) {
+                batch[i] = rand.nextInt(1000);
+                values.add(batch[i]);
+            }
+            heap.insertAll(batch);
+        }
+
+        Collections.sort(values);
+        assertEquals(values.size(), heap.size(), "insertAll should add every key.");
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(values.get(i), heap.delMin(),
+                    "Element at position " + i + " should match sorted order.");
+        }
+    }
+
+    // ========== Fused Operation Tests ==========
+
+    @Test
+    void replaceMin_returnsOldMinAndKeepsNewKey() {
+        LongMinHeap heap = sampleHeap();
+
+        assertEquals(1L, heap.replaceMin(6L), "replaceMin should return the old min.");
+        assertEquals(4, heap.size(), "replaceMin should not change size.");
+        assertEquals(3L, heap.replaceMinLong(0L), "Next replaceMin should return 3.");
+        assertEquals(0L, heap.minLong(), "The replacing key should now be the min.");
+    }
+
+    @Test
+    void replaceMinSmallerThanMin_stillReturnsOldMin() {
+        LongMinHeap heap = sampleHeap();
+
+        assertEquals(1L, heap.replaceMinLong(-5L), "Old min is returned even for a smaller key.");
+        assertEquals(-5L, heap.minLong(), "The new smaller key becomes the min.");
+    }
+
+    @Test
+    void replaceMinOnEmptyHeap_throwsNoSuchElementException() {
+        LongMinHeap heap = newHeap();
+        assertThrows(NoSuchElementException.class, () -> heap.replaceMin(1L),
+                "replaceMin() on empty heap should throw NoSuchElementException.");
+    }
+
+    @Test
+    void mixTwo_combinesTwoSmallestKeys() {
+        LongMinHeap heap = new LongMinHeap(new long[]{2L, 7L, 3L, 6L, 4L, 6L});
+
+        assertEquals(8L, heap.mixTwo((a, b) -> a + 2 * b), "2 + 2*3 should be 8.");
+        assertEquals(5, heap.size(), "mixTwo should shrink the heap by one.");
+        assertEquals(16L, heap.mixTwo((a, b) -> a + 2 * b), "4 + 2*6 should be 16.");
+
+        long[] expected = {6L, 7L, 8L, 16L};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], heap.delMinLong(),
+                    "Element at position " + i + " should be " + expected[i]);
+        }
+    }
+
+    @Test
+    void mixTwoWithOneKey_throwsNoSuchElementException() {
+        LongMinHeap heap = newHeap();
+        heap.insertLong(1L);
+        assertThrows(NoSuchElementException.class, () -> heap.mixTwo(Long::sum),
+                "mixTwo() with a single key should throw NoSuchElementException.");
+        assertEquals(1, heap.size(), "Failed mixTwo should leave the heap unchanged.");
+    }
+
+    // ========== Merge Tests ==========
+
+    @Test
+    void merge_drainsOtherHeapIntoThisOne() {
+        LongMinHeap a = new LongMinHeap(new long[]{9L, 1L, 5L});
+        LongMinHeap b = new LongMinHeap(new long[]{4L, 8L, 2L, 7L, 3L, 6L});
+
+        a.merge(b);
+
+        assertEquals(9, a.size(), "Merged heap should hold both inputs.");
+        assertTrue(b.isEmpty(), "The merged-in heap should be empty.");
+        for (long i = 1; i <= 9; i++) {
+            assertEquals(i, a.delMinLong(), "Element should be " + i + " in sorted order.");
+        }
+    }
+
+    @Test
+    void merge_ofNearlyEqualHeaps_producesSortedOutput() {
+        // m = n - 1 is large enough that merge rebuilds instead of swimming every key
+        Random rand = new Random(12345);
+        long[] left = new long[1000];
+        long[] right = new long[999];
+        ArrayList<Long> values = new ArrayList<>();
+        for (int i = 0; i < left.length; i++) {
+            left[i] = rand.nextInt(100000);
+            values.add(left[i]);
+        }
+        for (int i = 0; i < right.length; i++) {
+            right[i] = rand.nextInt(100000);
+            values.add(right[i]);
+        }
+        LongMinHeap a = new LongMinHeap(left);
+        a.merge(new LongMinHeap(right));
+
+        Collections.sort(values);
+        assertEquals(values.size(), a.size(), "Merged heap should hold both inputs.");
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals((long) values.get(i), a.delMinLong(), "Element at position " + i + " should match sorted order.");
+        }
+    }
+
+    @Test
+    void mergeWithItself_throwsIllegalArgumentException() {
+        LongMinHeap heap = sampleHeap();
+        assertThrows(IllegalArgumentException.class, () -> heap.merge(heap),
+                "Merging a heap with itself should be rejected.");
+    }
+
+    // ========== Drain Tests ==========
+
+    @Test
+    void drainSorted_writesAscendingAndEmptiesHeap() {
+        LongMinHeap heap = newHeap();
+        long[] values = {3L, 1L, 4L, 1L, 5L, 9L, 2L, 6L, 5L};
+        for (long val : values) {
+            heap.insertLong(val);
+        }
+
+        long[] out = new long[12];
+        assertEquals(values.length, heap.drainSorted(out), "drainSorted should report every key.");
+        assertArrayEquals(new long[]{1L, 1L, 2L, 3L, 4L, 5L, 5L, 6L, 9L, 0L, 0L, 0L}, out,
+                "Keys should be written in ascending order.");
+        assertTrue(heap.isEmpty(), "Heap should be empty after drainSorted.");
+
+        heap.insertLong(8L);
+        assertEquals(8L, heap.minLong(), "Heap should be reusable after drainSorted.");
+    }
+
+    @Test
+    void drainSorted_outputTooShort_throwsAndKeepsHeap() {
+        LongMinHeap heap = sampleHeap();
+        assertThrows(IllegalArgumentException.class, () -> heap.drainSorted(new long[3]),
+                "A short output array should be rejected.");
+        assertEquals(4, heap.size(), "Rejected drain should leave the heap intact.");
+    }
+}
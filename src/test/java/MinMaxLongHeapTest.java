@@ -0,0 +1,95 @@
+import com.student_work.MinMaxLongHeap;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class MinMaxLongHeapTest {
+
+    // Helper: create a new empty heap
+    private MinMaxLongHeap newHeap() {
+        return new MinMaxLongHeap();
+    }
+
+    @Test
+    void minAndMax_trackBothEnds() {
+        MinMaxLongHeap heap = newHeap();
+        long[] values = {15L, 10L, 20L, 8L, 25L, 30L, 5L};
+        for (long val : values) {
+            heap.insert(val);
+        }
+
+        assertEquals(5L, heap.min(), "min should be the smallest key.");
+        assertEquals(30L, heap.max(), "max should be the largest key.");
+        assertEquals(7, heap.size(), "Peeking should not change size.");
+    }
+
+    @Test
+    void delMax_removesInDescendingOrder() {
+        MinMaxLongHeap heap = newHeap();
+        long[] values = {3L, 1L, 4L, 1L, 5L, 9L, 2L, 6L, 5L};
+        for (long val : values) {
+            heap.insertLong(val);
+        }
+
+        long[] expected = {9L, 6L, 5L, 5L, 4L, 3L, 2L, 1L, 1L};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], heap.delMax(),
+                    "Element at position " + i + " should be " + expected[i]);
+        }
+        assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+    }
+
+    @Test
+    void singleAndTwoElements_minAndMaxAgree() {
+        MinMaxLongHeap heap = newHeap();
+        heap.insertLong(7L);
+        assertEquals(7L, heap.minLong(), "Single key is the min.");
+        assertEquals(7L, heap.maxLong(), "Single key is also the max.");
+
+        heap.insertLong(3L);
+        assertEquals(3L, heap.minLong(), "Smaller key becomes the min.");
+        assertEquals(7L, heap.maxLong(), "Larger key stays the max.");
+        assertEquals(7L, heap.delMaxLong(), "delMax should remove 7.");
+        assertEquals(3L, heap.delMaxLong(), "delMax should then remove 3.");
+    }
+
+    @Test
+    void emptyHeap_throwsNoSuchElementException() {
+        MinMaxLongHeap heap = newHeap();
+        assertThrows(NoSuchElementException.class, () -> heap.min(),
+                "min() on empty heap should throw NoSuchElementException.");
+        assertThrows(NoSuchElementException.class, () -> heap.max(),
+                "max() on empty heap should throw NoSuchElementException.");
+        assertThrows(NoSuchElementException.class, () -> heap.delMax(),
+                "delMax() on empty heap should throw NoSuchElementException.");
+    }
+
+    @Test
+    void randomMixedOperations_matchSortedReference() {
+        MinMaxLongHeap heap = new MinMaxLongHeap(1);
+        Random rand = new Random(12345);
+        ArrayList<Long> reference = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int op = rand.nextInt(4);
+            if (reference.isEmpty() || op < 2) {
+                long val = rand.nextInt(1000);
+                reference.add(val);
+                heap.insertLong(val);
+            } else if (op == 2) {
+                Long expected = Collections.min(reference);
+                reference.remove(expected);
+                assertEquals(expected, heap.delMin(), "delMin mismatch at step " + i);
+            } else {
+                Long expected = Collections.max(reference);
+                reference.remove(expected);
+                assertEquals(expected, heap.delMax(), "delMax mismatch at step " + i);
+            }
+            assertEquals(reference.size(), heap.size(), "Size mismatch at step " + i);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+import com.student_work.MinMaxPizzaJobHeap;
+import com.student_work.PizzaJob;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+
+public class MinMaxPizzaJobHeapTest {
+
+    // Helper: create a new empty heap
+    private MinMaxPizzaJobHeap newHeap() {
+        return new MinMaxPizzaJobHeap();
+    }
+
+    @Test
+    void minAndMax_serveShortestAndLongestJob() {
+        MinMaxPizzaJobHeap heap = newHeap();
+        heap.insert(new PizzaJob(1, 10));
+        heap.insert(new PizzaJob(2, 3));
+        heap.insert(new PizzaJob(3, 25));
+        heap.insert(new PizzaJob(4, 7));
+
+        assertEquals(3, heap.min().getCookTime(), "min should be the shortest job.");
+        assertEquals(25, heap.max().getCookTime(), "max should be the longest job.");
+        assertEquals(3, heap.delMax().getArrivalTime(), "delMax should return the job that arrived at 3.");
+        assertEquals(10, heap.max().getCookTime(), "Next longest job should be 10.");
+        assertEquals(2, heap.delMin().getArrivalTime(), "delMin should return the job that arrived at 2.");
+        assertEquals(2, heap.size(), "Two jobs should remain.");
+    }
+
+    @Test
+    void emptyHeap_throwsIllegalStateException() {
+        MinMaxPizzaJobHeap heap = newHeap();
+        assertThrows(IllegalStateException.class, () -> heap.min(),
+                "min() on empty heap should throw IllegalStateException.");
+        assertThrows(IllegalStateException.class, () -> heap.max(),
+                "max() on empty heap should throw IllegalStateException.");
+        assertThrows(IllegalStateException.class, () -> heap.delMax(),
+                "delMax() on empty heap should throw IllegalStateException.");
+    }
+
+    @Test
+    void randomMixedOperations_matchSortedReference() {
+        MinMaxPizzaJobHeap heap = new MinMaxPizzaJobHeap(1);
+        Random rand = new Random(12345);
+        ArrayList<Long> reference = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int op = rand.nextInt(4);
+            if (reference.isEmpty() || op < 2) {
+                long cookTime = rand.nextInt(1000);
+                reference.add(cookTime);
+                heap.insert(new PizzaJob(i, cookTime));
+            } else if (op == 2) {
+                Long expected = Collections.min(reference);
+                reference.remove(expected);
+                assertEquals(expected, heap.delMin().getCookTime(), "delMin mismatch at step " + i);
+            } else {
+                Long expected = Collections.max(reference);
+                reference.remove(expected);
+                assertEquals(expected, heap.delMax().getCookTime(), "delMax mismatch at step " + i);
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+import com.student_work.LongMinHeap;
+import com.student_work.MultiQueue;
+import com.student_work.PizzaJob;
+import com.student_work.PizzaJobMinHeap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+public class MultiQueueTest {
+
+    // Helper: create a new empty queue of longs sized for the given thread count
+    private MultiQueue<Long> newQueue(int threads) {
+        return new MultiQueue<>(LongMinHeap::new, Long::longValue, threads);
+    }
+
+    @Test
+    void singleThread_returnsEveryElementOnce() {
+        MultiQueue<Long> queue = newQueue(4);
+        List<Long> inserted = new ArrayList<>();
+        Random rand = new Random(12345);
+        for (int i = 0; i < 5000; i++) {
+            long val = rand.nextInt(1000);
+            queue.insert(val);
+            inserted.add(val);
+        }
+        assertEquals(5000, queue.size(), "Size should count every insert.");
+
+        List<Long> removed = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            removed.add(queue.delMin());
+        }
+        Collections.sort(inserted);
+        Collections.sort(removed);
+        assertEquals(inserted, removed, "Every inserted element should come out exactly once.");
+    }
+
+    @Test
+    void oneThread_twoHeaps_isExact() {
+        MultiQueue<Long> queue = newQueue(1);
+        assertEquals(2, queue.heapCount(), "One thread with two heaps per thread should make two heaps.");
+        for (long i = 100; i >= 1; i--) {
+            queue.insert(i);
+        }
+        assertEquals(1L, queue.delMin(), "With two heaps delMin compares both, so it should be exact.");
+    }
+
+    @Test
+    void pizzaJobs_withPizzaJobMinHeap() {
+        MultiQueue<PizzaJob> queue = new MultiQueue<>(PizzaJobMinHeap::new, PizzaJob::getCookTime, 2);
+        queue.insert(new PizzaJob(0, 9));
+        queue.insert(new PizzaJob(1, 3));
+        queue.insert(new PizzaJob(2, 6));
+
+        assertEquals(3, queue.min().getCookTime(), "min should see the shortest job when quiescent.");
+        long total = 0;
+        while (!queue.isEmpty()) {
+            total += queue.delMin().getCookTime();
+        }
+        assertEquals(18, total, "Every job should come out.");
+    }
+
+    // ========== Rank Error ==========
+
+    @Test
+    void rankError_averageWithinHeapCount() {
+        // rank error = how many queued elements are smaller than the one returned
+        MultiQueue<Long> queue = newQueue(8);
+        int m = queue.heapCount();
+        TreeMap<Long, Integer> remaining = new TreeMap<>();
+        Random rand = new Random(12345);
+        int n = 20000;
+        for (int i = 0; i < n; i++) {
+            long val = rand.nextLong();
+            queue.insert(val);
+            remaining.merge(val, 1, Integer::sum);
+        }
+
+        long totalRank = 0;
+        int maxRank = 0;
+        for (int i = 0; i < n; i++) {
+            long val = queue.delMin();
+            int rank = remaining.headMap(val).size();
+            totalRank += rank;
+            maxRank = Math.max(maxRank, rank);
+            remaining.merge(val, -1, (a, b) -> a + b == 0 ? null : a + b);
+        }
+        double meanRank = (double) totalRank / n;
+        assertTrue(meanRank <= m, "Mean rank error should be O(heaps): " + meanRank + " with " + m + " heaps.");
+        int log2m = 32 - Integer.numberOfLeadingZeros(m - 1);
+        assertTrue(maxRank <= 4 * m * log2m, "Worst rank error should stay O(m log m): " + maxRank);
+    }
+
+    // ========== Concurrency ==========
+
+    @Test
+    @Timeout(30)
+    void concurrentProducersAndConsumers_loseNothing() throws InterruptedException {
+        int threads = 4;
+        int perThread = 20000;
+        MultiQueue<Long> queue = newQueue(threads);
+        ConcurrentLinkedQueue<Long> removed = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            long base = (long) t * perThread;
+            workers.add(new Thread(() -> {
+                await(start);
+                for (long i = 0; i < perThread; i++) {
+                    queue.insert(base + i);
+                }
+            }));
+            workers.add(new Thread(() -> {
+                await(start);
+                int taken = 0;
+                while (taken < perThread) {
+                    try {
+                        removed.add(queue.delMin());
+                        taken++;
+                    } catch (NoSuchElementException e) {
+                        Thread.yield();     // producers have not caught up yet
+                    }
+                }
+            }));
+        }
+        for (Thread w : workers) w.start();
+        start.countDown();
+        for (Thread w : workers) w.join();
+
+        assertTrue(queue.isEmpty(), "Queue should be empty after every consumer finished.");
+        List<Long> sorted = new ArrayList<>(removed);
+        Collections.sort(sorted);
+        assertEquals(threads * perThread, sorted.size(), "Every element should be removed once.");
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(i, (long) sorted.get(i), "Element " + i + " should be removed exactly once.");
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========== Edge Cases ==========
+
+    @Test
+    void emptyQueue_throwsNoSuchElementException() {
+        MultiQueue<Long> queue = newQueue(2);
+        assertThrows(NoSuchElementException.class, () -> queue.min(),
+                "min() on empty queue should throw NoSuchElementException.");
+        assertThrows(NoSuchElementException.class, () -> queue.delMin(),
+                "delMin() on empty queue should throw NoSuchElementException.");
+    }
+
+    @Test
+    void badArguments_throw() {
+        assertThrows(IllegalArgumentException.class, () -> newQueue(0), "Zero threads should throw.");
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultiQueue<>(LongMinHeap::new, Long::longValue, 2, 0), "Zero heaps per thread should throw.");
+        MultiQueue<Long> queue = newQueue(2);
+        assertThrows(IllegalArgumentException.class, () -> queue.insert(null), "Inserting null should throw.");
+    }
+
+    @Test
+    void clear_emptiesEveryHeap() {
+        MultiQueue<Long> queue = newQueue(4);
+        for (long i = 0; i < 1000; i++) {
+            queue.insert(i);
+        }
+        queue.clear();
+        assertTrue(queue.isEmpty(), "Queue should be empty after clear.");
+        assertThrows(NoSuchElementException.class, () -> queue.min(), "No cached minimum should survive clear.");
+
+        queue.insert(7L);
+        assertEquals(7L, queue.delMin(), "Queue should work after clear.");
+    }
+}
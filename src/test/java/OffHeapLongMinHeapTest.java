@@ -0,0 +1,109 @@
+import com.student_work.OffHeapLongMinHeap;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class OffHeapLongMinHeapTest {
+
+    // Helper: small chunks so tests cross many chunk boundaries
+    private OffHeapLongMinHeap newHeap() {
+        return new OffHeapLongMinHeap(4);
+    }
+
+    @Test
+    void insertAndDelMin_returnsSortedOrder() {
+        try (OffHeapLongMinHeap heap = newHeap()) {
+            long[] values = {3L, 1L, 4L, 1L, 5L, 9L, 2L, 6L, 5L};
+            for (long val : values) {
+                heap.insert(val);
+            }
+
+            long[] expected = {1L, 1L, 2L, 3L, 4L, 5L, 5L, 6L, 9L};
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], heap.delMin(),
+                        "Element at position " + i + " should be " + expected[i]);
+            }
+            assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+        }
+    }
+
+    @Test
+    void emptyHeap_throwsNoSuchElementException() {
+        try (OffHeapLongMinHeap heap = newHeap()) {
+            assertThrows(NoSuchElementException.class, () -> heap.min(),
+                    "min() on empty heap should throw NoSuchElementException.");
+            assertThrows(NoSuchElementException.class, () -> heap.delMinLong(),
+                    "delMinLong() on empty heap should throw NoSuchElementException.");
+        }
+    }
+
+    @Test
+    void insertNull_throwsIllegalArgumentException() {
+        try (OffHeapLongMinHeap heap = newHeap()) {
+            assertThrows(IllegalArgumentException.class, () -> heap.insert(null),
+                    "Inserting null should throw IllegalArgumentException.");
+        }
+    }
+
+    @Test
+    void randomInsertions_acrossManyChunks_produceSortedOutput() {
+        try (OffHeapLongMinHeap heap = newHeap()) {
+            Random rand = new Random(12345);
+            ArrayList<Long> values = new ArrayList<>();
+
+            for (int i = 0; i < 5000; i++) {
+                long val = rand.nextLong();
+                values.add(val);
+                heap.insertLong(val);
+            }
+            Collections.sort(values);
+
+            assertEquals(values.size(), heap.sizeLong(), "sizeLong should count every key.");
+            for (int i = 0; i < values.size(); i++) {
+                assertEquals(values.get(i), heap.delMinLong(),
+                        "Element at position " + i + " should match sorted order.");
+            }
+        }
+    }
+
+    @Test
+    void clear_allowsReuse() {
+        try (OffHeapLongMinHeap heap = newHeap()) {
+            for (long i = 100; i > 0; i--) {
+                heap.insertLong(i);
+            }
+            heap.clear();
+            assertTrue(heap.isEmpty(), "Heap should be empty after clear.");
+
+            heap.insertLong(7L);
+            heap.insertLong(3L);
+            assertEquals(3L, heap.minLong(), "Heap should work after clear.");
+        }
+    }
+
+    @Test
+    void closedHeap_rejectsOperations() {
+        OffHeapLongMinHeap heap = newHeap();
+        heap.insertLong(1L);
+        heap.close();
+        heap.close();
+
+        assertThrows(IllegalStateException.class, () -> heap.insertLong(2L),
+                "insert after close should throw IllegalStateException.");
+        assertThrows(IllegalStateException.class, () -> heap.minLong(),
+                "min after close should throw IllegalStateException.");
+    }
+
+    @Test
+    void invalidChunkBits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapLongMinHeap(40),
+                "Chunks larger than a direct buffer can address should be rejected.");
+        // 8 << 28 bytes overflows the int buffer size, so 28 is already too large
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapLongMinHeap(28),
+                "28 chunk bits would overflow the chunk size and should be rejected.");
+    }
+}
@@ -0,0 +1,155 @@
+import com.student_work.PairingPizzaJobHeap;
+import com.student_work.PizzaJob;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class PairingPizzaJobHeapTest {
+
+    // Helper: create a new empty heap
+    private PairingPizzaJobHeap newHeap() {
+        return new PairingPizzaJobHeap();
+    }
+
+    @Test
+    void insertAndDelMin_returnsJobsInCookTimeOrder() {
+        PairingPizzaJobHeap heap = newHeap();
+        long[] cookTimes = {50, 30, 70, 10, 40, 60, 80, 20};
+        for (int i = 0; i < cookTimes.length; i++) {
+            heap.insert(new PizzaJob(i, cookTimes[i]));
+        }
+
+        long[] expected = {10, 20, 30, 40, 50, 60, 70, 80};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], heap.delMin().getCookTime(),
+                    "Job at position " + i + " should have cook time " + expected[i]);
+        }
+        assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+    }
+
+    @Test
+    void delMin_keepsArrivalWithItsJob() {
+        PairingPizzaJobHeap heap = newHeap();
+        heap.insert(7, 30);
+        heap.insert(3, 10);
+        heap.insert(5, 20);
+
+        assertEquals(10, heap.minCookTime(), "minCookTime should be the shortest job.");
+        assertEquals(3, heap.minArrivalTime(), "minArrivalTime should belong to the shortest job.");
+        PizzaJob first = heap.delMin();
+        assertEquals(3, first.getArrivalTime(), "delMin should rebuild the arrival time.");
+        heap.removeMin();
+        assertEquals(7, heap.min().getArrivalTime(), "The 30-minute job should be last.");
+    }
+
+    @Test
+    void emptyHeap_throwsIllegalStateException() {
+        PairingPizzaJobHeap heap = newHeap();
+        assertThrows(IllegalStateException.class, () -> heap.min(),
+                "min() on empty heap should throw IllegalStateException.");
+        assertThrows(IllegalStateException.class, () -> heap.delMin(),
+                "delMin() on empty heap should throw IllegalStateException.");
+        assertThrows(IllegalStateException.class, () -> heap.removeMin(),
+                "removeMin() on empty heap should throw IllegalStateException.");
+        assertThrows(IllegalStateException.class, () -> heap.minCookTime(),
+                "minCookTime() on empty heap should throw IllegalStateException.");
+    }
+
+    @Test
+    void insert_null_throws() {
+        PairingPizzaJobHeap heap = newHeap();
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(null),
+                "Inserting null should throw.");
+    }
+
+    @Test
+    void insertAll_withNull_insertsNothing() {
+        PairingPizzaJobHeap heap = newHeap();
+        List<PizzaJob> jobs = Arrays.asList(new PizzaJob(1, 5), null, new PizzaJob(2, 3));
+        assertThrows(IllegalArgumentException.class, () -> heap.insertAll(jobs),
+                "A null job should be rejected.");
+        assertTrue(heap.isEmpty(), "No job should be inserted when the batch holds null.");
+    }
+
+    @Test
+    void burstThenDrain_matchesSortedOrder() {
+        // a lunch-rush burst: many inserts, then everything comes out in order
+        PairingPizzaJobHeap heap = newHeap();
+        Random rand = new Random(12345);
+        List<PizzaJob> burst = new ArrayList<>();
+        ArrayList<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            long cook = rand.nextInt(1000);
+            burst.add(new PizzaJob(i, cook));
+            expected.add(cook);
+        }
+        heap.insertAll(burst);
+        Collections.sort(expected);
+
+        assertEquals(20000, heap.size(), "Size should count every job.");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals((long) expected.get(i), heap.minCookTime(),
+                    "Job at position " + i + " should match sorted order.");
+            heap.removeMin();
+        }
+        assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+    }
+
+    @Test
+    void interleavedOperations_reuseFreedNodes() {
+        PairingPizzaJobHeap heap = new PairingPizzaJobHeap(1);
+        ArrayList<Long> model = new ArrayList<>();
+        Random rand = new Random(12345);
+        for (int i = 0; i < 30000; i++) {
+            if (model.isEmpty() || rand.nextInt(5) < 3) {
+                long cook = rand.nextInt(500);
+                heap.insert(i, cook);
+                model.add(cook);
+            } else {
+                Collections.sort(model);
+                assertEquals((long) model.remove(0), heap.delMin().getCookTime(),
+                        "delMin should match the model at step " + i + ".");
+            }
+            assertEquals(model.size(), heap.size(), "Size should match the model.");
+        }
+    }
+
+    @Test
+    void sortedInsertsThenDrain_doNotOverflowTheStack() {
+        // ascending inserts build one long child list, descending ones one deep path
+        PairingPizzaJobHeap heap = newHeap();
+        for (int i = 0; i < 200000; i++) {
+            heap.insert(i, i);
+        }
+        for (int i = 200000; i < 400000; i++) {
+            heap.insert(i, 600000 - i);
+        }
+        long prev = Long.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            long cook = heap.minCookTime();
+            assertTrue(cook >= prev, "Drain should be non-decreasing.");
+            prev = cook;
+            heap.removeMin();
+        }
+    }
+
+    @Test
+    void clear_allowsReuse() {
+        PairingPizzaJobHeap heap = newHeap();
+        for (int i = 0; i < 100; i++) {
+            heap.insert(i, 100 - i);
+        }
+        heap.clear();
+        assertTrue(heap.isEmpty(), "Heap should be empty after clear.");
+
+        heap.insert(1, 9);
+        heap.insert(2, 4);
+        assertEquals(4, heap.minCookTime(), "Heap should work after clear.");
+        assertEquals(2, heap.size(), "Only the new jobs should be counted.");
+    }
+}
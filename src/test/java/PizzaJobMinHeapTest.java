@@ -560,4 +560,153 @@ public class PizzaJobMinHeapTest {
 
         assertTrue(heap.isEmpty(), "Heap should be empty after balanced insert/delMin operations.");
     }
-}
\ No newline at end of file
+
+    // ========== Arity Tests ==========
+
+    @Test
+    void everyArity_producesSortedOutput() {
+        Random rand = new Random(2341);
+        for (int d = 2; d <= 8; d++) {
+            PizzaJobMinHeap heap = new PizzaJobMinHeap(1, d);
+            ArrayList<Long> cookTimes = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                long cookTime = rand.nextInt(100);
+                cookTimes.add(cookTime);
+                heap.insert(new PizzaJob(i, cookTime));
+            }
+            Collections.sort(cookTimes);
+            for (int i = 0; i < cookTimes.size(); i++) {
+                assertEquals(cookTimes.get(i), heap.delMin().getCookTime(),
+                        "Arity " + d + ": job at position " + i + " should match sorted cook time order.");
+            }
+        }
+    }
+
+    @Test
+    void arityBelowTwo_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PizzaJobMinHeap(10, 1),
+                "Arity 1 should be rejected.");
+    }
+
+    // ========== Bulk Construction Tests ==========
+
+    @Test
+    void collectionConstructor_buildsValidHeap() {
+        long[] cookTimes = {23, 17, 14, 6, 13, 10, 1, 5, 7, 12};
+        ArrayList<PizzaJob> jobs = new ArrayList<>();
+        for (int i = 0; i < cookTimes.length; i++) {
+            jobs.add(new PizzaJob(i, cookTimes[i]));
+        }
+
+        PizzaJobMinHeap heap = new PizzaJobMinHeap(jobs);
+        assertEquals(jobs.size(), heap.size(), "Heap should hold every job.");
+
+        long[] expected = cookTimes.clone();
+        java.util.Arrays.sort(expected);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], heap.delMin().getCookTime(),
+                    "Job at position " + i + " should have cook time " + expected[i]);
+        }
+    }
+
+    @Test
+    void insertAll_withNullJob_throwsAndLeavesHeapUnchanged() {
+        PizzaJobMinHeap heap = sampleHeap();
+        ArrayList<PizzaJob> batch = new ArrayList<>();
+        batch.add(new PizzaJob(9, 0));
+        batch.add(null);
+
+        assertThrows(IllegalArgumentException.class, () -> heap.insertAll(batch),
+                "A null job in the batch should be rejected.");
+        assertEquals(4, heap.size(), "Failed insertAll should not change size.");
+        assertEquals(1, heap.min().getCookTime(), "Failed insertAll should not change min.");
+    }
+
+    // ========== Fused Operation Tests ==========
+
+    @Test
+    void replaceMin_returnsOldMinAndKeepsNewJob() {
+        PizzaJobMinHeap heap = sampleHeap();
+
+        assertEquals(1, heap.replaceMin(new PizzaJob(9, 6)).getCookTime(),
+                "replaceMin should return the old min.");
+        assertEquals(4, heap.size(), "replaceMin should not change size.");
+
+        long[] expected = {3, 5, 6, 7};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], heap.delMin().getCookTime(),
+                    "Job at position " + i + " should have cook time " + expected[i]);
+        }
+    }
+
+    @Test
+    void replaceMinOnEmptyHeap_throwsIllegalStateException() {
+        PizzaJobMinHeap heap = newHeap();
+        assertThrows(IllegalStateException.class, () -> heap.replaceMin(new PizzaJob(1, 1)),
+                "replaceMin() on empty heap should throw IllegalStateException.");
+    }
+
+    // ========== Primitive Accessor Tests ==========
+
+    @Test
+    void primitiveInsertAndAccessors_matchJobFields() {
+        PizzaJobMinHeap heap = newHeap();
+        heap.insert(10, 7);
+        heap.insert(new PizzaJob(20, 3));
+        heap.insert(30, 5);
+
+        assertEquals(3, heap.minCookTime(), "minCookTime should see the shortest job.");
+        assertEquals(20, heap.minArrivalTime(), "minArrivalTime should travel with its cook time.");
+        heap.removeMin();
+
+        PizzaJob next = heap.delMin();
+        assertEquals(30, next.getArrivalTime(), "delMin should rebuild the arrival time.");
+        assertEquals(5, next.getCookTime(), "delMin should rebuild the cook time.");
+        assertEquals(7, heap.minCookTime(), "Remaining job should be the 7-minute pizza.");
+    }
+
+    @Test
+    void primitiveAccessorsOnEmptyHeap_throwIllegalStateException() {
+        PizzaJobMinHeap heap = newHeap();
+        assertThrows(IllegalStateException.class, () -> heap.minCookTime(),
+                "minCookTime() on empty heap should throw IllegalStateException.");
+        assertThrows(IllegalStateException.class, () -> heap.minArrivalTime(),
+                "minArrivalTime() on empty heap should throw IllegalStateException.");
+        assertThrows(IllegalStateException.class, () -> heap.removeMin(),
+                "removeMin() on empty heap should throw IllegalStateException.");
+    }
+
+    // ========== Merge Tests ==========
+
+    @Test
+    void merge_drainsOtherHeapIntoThisOne() {
+        PizzaJobMinHeap small = newHeap();
+        small.insert(new PizzaJob(100, 4));
+        PizzaJobMinHeap big = sampleHeap();
+
+        small.merge(big);
+
+        assertEquals(5, small.size(), "Merged heap should hold both inputs.");
+        assertTrue(big.isEmpty(), "The merged-in heap should be empty.");
+        assertEquals(4, small.minArrivalTime(), "Arrival times should travel with their cook times.");
+        long[] expected = {1, 3, 4, 5, 7};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], small.delMin().getCookTime(),
+                    "Job at position " + i + " should have cook time " + expected[i]);
+        }
+    }
+
+    // ========== Drain Tests ==========
+
+    @Test
+    void drainSorted_writesParallelArraysInCookTimeOrder() {
+        PizzaJobMinHeap heap = sampleHeap();
+        long[] arrivals = new long[4];
+        long[] cooks = new long[4];
+
+        assertEquals(4, heap.drainSorted(arrivals, cooks), "drainSorted should report every job.");
+        assertArrayEquals(new long[]{1, 3, 5, 7}, cooks, "Cook times should be ascending.");
+        assertArrayEquals(new long[]{4, 2, 1, 3}, arrivals, "Arrival times should follow their jobs.");
+        assertTrue(heap.isEmpty(), "Heap should be empty after drainSorted.");
+    }
+}
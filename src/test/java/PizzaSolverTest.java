@@ -1,8 +1,12 @@
+import com.student_work.PizzaJob;
 import com.student_work.PizzaSolver;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
 import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 public class PizzaSolverTest {
 
@@ -523,4 +527,108 @@ public class PizzaSolverTest {
         long result = runPizzaSolution(orders);
         assertEquals(200000, result);
     }
-}
\ No newline at end of file
+
+    // ========== Bucketed and Heap Paths ==========
+
+    // Reference answer: at each step serve the shortest arrived job, found by a linear scan
+    private long referenceAverageWait(List<PizzaJob> jobs) {
+        List<PizzaJob> left = new ArrayList<>(jobs);
+        long time = 0;
+        long total = 0;
+        while (!left.isEmpty()) {
+            PizzaJob best = null;
+            long earliest = Long.MAX_VALUE;
+            for (PizzaJob job : left) {
+                earliest = Math.min(earliest, job.getArrivalTime());
+                if (job.getArrivalTime() <= time && (best == null || job.getCookTime() < best.getCookTime())) {
+                    best = job;
+                }
+            }
+            if (best == null) {
+                time = earliest;
+                continue;
+            }
+            time += best.getCookTime();
+            total += time - best.getArrivalTime();
+            left.remove(best);
+        }
+        return total / jobs.size();
+    }
+
+    private List<PizzaJob> randomJobs(Random rand, long maxCook) {
+        int n = 1 + rand.nextInt(100);
+        List<PizzaJob> jobs = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            jobs.add(new PizzaJob(rand.nextInt(500), 1 + (long) (rand.nextDouble() * maxCook)));
+        }
+        return jobs;
+    }
+
+    @Test
+    public void testSmallCookTimes_bucketedPathMatchesReference() {
+        Random rand = new Random(12345);
+        for (int trial = 0; trial < 50; trial++) {
+            List<PizzaJob> jobs = randomJobs(rand, 20);
+            assertEquals(referenceAverageWait(jobs), PizzaSolver.minimumAverageWaitTime(jobs),
+                    "Trial " + trial + " should match the reference.");
+        }
+    }
+
+    @Test
+    public void testLargeCookTimes_heapPathMatchesReference() {
+        // cook times far above the bucket limit keep the solver on PizzaJobMinHeap
+        Random rand = new Random(12345);
+        for (int trial = 0; trial < 50; trial++) {
+            List<PizzaJob> jobs = randomJobs(rand, 1_000_000_000L);
+            assertEquals(referenceAverageWait(jobs), PizzaSolver.minimumAverageWaitTime(jobs),
+                    "Trial " + trial + " should match the reference.");
+        }
+    }
+
+    // ========== Approximate Mode ==========
+
+    @Test
+    public void testApproximate_smallRunsAreExact() {
+        // soft heaps only corrupt once trees pass rank ceil(log2(1/epsilon)) + 5, far above 100 jobs
+        Random rand = new Random(12345);
+        for (int trial = 0; trial < 50; trial++) {
+            List<PizzaJob> jobs = randomJobs(rand, 1_000_000_000L);
+            PizzaSolver.ApproximateWait approx = PizzaSolver.approximateAverageWaitTime(jobs, 0.1);
+            assertEquals(0, approx.maxPassedOver(), "Trial " + trial + " should pass over no job.");
+            assertEquals(referenceAverageWait(jobs), approx.averageWait(),
+                    "Trial " + trial + " should match the reference.");
+        }
+    }
+
+    @Test
+    public void testApproximate_largeRunStaysWithinBound() {
+        Random rand = new Random(12345);
+        int n = 200000;
+        List<PizzaJob> jobs = new ArrayList<>();
+        long arrival = 0;
+        for (int i = 0; i < n; i++) {
+            arrival += rand.nextInt(10);
+            jobs.add(new PizzaJob(arrival, 1 + rand.nextInt(1_000_000_000)));
+        }
+        double epsilon = 0.1;
+        PizzaSolver.ApproximateWait approx = PizzaSolver.approximateAverageWaitTime(jobs, epsilon);
+        long exact = PizzaSolver.minimumAverageWaitTime(jobs);
+
+        assertTrue(approx.maxPassedOver() <= epsilon * n,
+                "No pick should pass over more than epsilon * n jobs: " + approx.maxPassedOver());
+        assertTrue(Math.abs(approx.averageWait() - exact) <= exact / 100,
+                "The approximate average should be within 1% of exact: " + approx.averageWait() + " vs " + exact);
+    }
+
+    @Test
+    public void testApproximate_emptyAndBadEpsilon() {
+        assertEquals(0, PizzaSolver.approximateAverageWaitTime(new ArrayList<>(), 0.1).averageWait(),
+                "No jobs should mean no wait.");
+        assertThrows(IllegalArgumentException.class,
+                () -> PizzaSolver.approximateAverageWaitTime(new ArrayList<>(), 0),
+                "An error rate of zero should throw.");
+        assertThrows(IllegalArgumentException.class,
+                () -> PizzaSolver.approximateAverageWaitTime(new ArrayList<>(), 0.75),
+                "An error rate above 1/2 should throw.");
+    }
+}
@@ -0,0 +1,173 @@
+import com.student_work.RadixLongHeap;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class RadixLongHeapTest {
+
+    // Helper: create a new empty heap
+    private RadixLongHeap newHeap() {
+        return new RadixLongHeap();
+    }
+
+    @Test
+    void insertAndDelMin_returnsSortedOrder() {
+        RadixLongHeap heap = newHeap();
+        long[] values = {50L, 30L, 70L, 10L, 40L, 60L, 80L, 20L};
+        for (long val : values) {
+            heap.insert(val);
+        }
+
+        long[] expected = {10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], heap.delMin(),
+                    "Element at position " + i + " should be " + expected[i]);
+        }
+        assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+    }
+
+    @Test
+    void negativeAndExtremeKeys_sortCorrectly() {
+        RadixLongHeap heap = newHeap();
+        long[] values = {0L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, 42L, -42L, 1L};
+        for (long val : values) {
+            heap.insertLong(val);
+        }
+
+        long[] expected = {Long.MIN_VALUE, -42L, -1L, 0L, 1L, 42L, Long.MAX_VALUE};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], heap.delMinLong(),
+                    "Element at position " + i + " should be " + expected[i]);
+        }
+    }
+
+    @Test
+    void duplicates_allReturned() {
+        RadixLongHeap heap = newHeap();
+        for (int i = 0; i < 5; i++) {
+            heap.insertLong(7L);
+            heap.insertLong(3L);
+        }
+        for (int i = 0; i < 5; i++) {
+            assertEquals(3L, heap.delMinLong(), "Each copy of 3 should come out first.");
+        }
+        for (int i = 0; i < 5; i++) {
+            assertEquals(7L, heap.delMinLong(), "Then each copy of 7.");
+        }
+    }
+
+    @Test
+    void monotoneWorkload_matchesSortedModel() {
+        RadixLongHeap heap = newHeap();
+        ArrayList<Long> model = new ArrayList<>();
+        Random rand = new Random(12345);
+        long floor = 0;
+        for (int i = 0; i < 20000; i++) {
+            if (model.isEmpty() || rand.nextInt(3) != 0) {
+                // any key at or above the last minimum is allowed
+                long val = floor + rand.nextInt(1 << rand.nextInt(30));
+                heap.insertLong(val);
+                model.add(val);
+            } else {
+                Collections.sort(model);
+                long expected = model.remove(0);
+                assertEquals(expected, heap.minLong(), "min should match the model at step " + i + ".");
+                assertEquals(expected, heap.delMinLong(), "delMin should match the model at step " + i + ".");
+                floor = expected;
+                assertEquals(floor, heap.floor(), "floor should be the last minimum removed.");
+            }
+            assertEquals(model.size(), heap.size(), "Size should match the model.");
+        }
+    }
+
+    @Test
+    void cookieStyleMixing_keepsWorking() {
+        // a + 2b is never below the minimums just removed
+        RadixLongHeap heap = newHeap();
+        for (long val : new long[] {1, 2, 3, 9, 10, 12}) {
+            heap.insertLong(val);
+        }
+        int ops = 0;
+        while (heap.size() > 1 && heap.minLong() < 7) {
+            long a = heap.delMinLong();
+            long b = heap.delMinLong();
+            heap.insertLong(a + 2 * b);
+            ops++;
+        }
+        assertEquals(2, ops, "Sample cookie input should need two mixes.");
+        assertTrue(heap.minLong() >= 7, "Every cookie should reach the target.");
+    }
+
+    // ========== Monotonicity ==========
+
+    @Test
+    void insertBelowLastMinimum_throwsWithClearMessage() {
+        RadixLongHeap heap = newHeap();
+        heap.insertLong(10L);
+        heap.insertLong(20L);
+        assertEquals(10L, heap.delMinLong(), "First delMin should return 10.");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> heap.insertLong(9L),
+                "Inserting below the last minimum should throw.");
+        assertTrue(e.getMessage().contains("9") && e.getMessage().contains("10"),
+                "Message should name the key and the last minimum: " + e.getMessage());
+        assertEquals(1, heap.size(), "A rejected insert should not change the size.");
+
+        heap.insertLong(10L);
+        assertEquals(10L, heap.delMinLong(), "Inserting exactly the last minimum is allowed.");
+    }
+
+    @Test
+    void peek_doesNotRaiseTheFloor() {
+        RadixLongHeap heap = newHeap();
+        heap.insertLong(10L);
+        assertEquals(10L, heap.minLong(), "min should be 10.");
+        assertEquals(Long.MIN_VALUE, heap.floor(), "Peeking should not move the floor.");
+
+        heap.insertLong(5L);
+        assertEquals(5L, heap.minLong(), "A smaller key inserted after a peek should become the min.");
+        heap.insertLong(7L);
+        assertEquals(5L, heap.delMinLong(), "First delMin should return 5.");
+        assertEquals(5L, heap.floor(), "delMin should raise the floor.");
+        heap.insertLong(5L);
+        assertEquals(5L, heap.minLong(), "The floor itself may be inserted after a peek.");
+        assertEquals(5L, heap.delMinLong(), "Second delMin should return 5.");
+        assertEquals(7L, heap.minLong(), "The peek after draining bucket 0 should see 7.");
+        assertEquals(7L, heap.delMinLong(), "Third delMin should return 7.");
+        assertEquals(10L, heap.delMinLong(), "Fourth delMin should return 10.");
+        assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+    }
+
+    @Test
+    void clear_resetsFloor() {
+        RadixLongHeap heap = newHeap();
+        heap.insertLong(100L);
+        heap.delMinLong();
+        heap.clear();
+        assertEquals(Long.MIN_VALUE, heap.floor(), "clear should reset the floor.");
+
+        heap.insertLong(5L);
+        assertEquals(5L, heap.minLong(), "Smaller keys are allowed again after clear.");
+    }
+
+    // ========== Edge cases ==========
+
+    @Test
+    void emptyHeap_throwsNoSuchElementException() {
+        RadixLongHeap heap = newHeap();
+        assertThrows(NoSuchElementException.class, () -> heap.min(),
+                "min() on empty heap should throw NoSuchElementException.");
+        assertThrows(NoSuchElementException.class, () -> heap.delMin(),
+                "delMin() on empty heap should throw NoSuchElementException.");
+    }
+
+    @Test
+    void insert_null_throws() {
+        RadixLongHeap heap = newHeap();
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(null), "Inserting null should throw.");
+    }
+}
@@ -0,0 +1,177 @@
+import com.student_work.RunLengthLongHeap;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class RunLengthLongHeapTest {
+
+    // Helper: create a new empty heap
+    private RunLengthLongHeap newHeap() {
+        return new RunLengthLongHeap();
+    }
+
+    @Test
+    void insertAndDelMin_returnsSortedOrder() {
+        RunLengthLongHeap heap = newHeap();
+        long[] values = {50L, 30L, 70L, 10L, 40L, 60L, 80L, 20L};
+        for (long val : values) {
+            heap.insert(val);
+        }
+
+        long[] expected = {10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], heap.delMin(),
+                    "Element at position " + i + " should be " + expected[i]);
+        }
+        assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+    }
+
+    // ========== Counts ==========
+
+    @Test
+    void insertWithCount_storesOneEntry() {
+        RunLengthLongHeap heap = newHeap();
+        heap.insert(5L, 1_000_000L);
+        heap.insert(9L, 3L);
+
+        assertEquals(1_000_003L, heap.sizeLong(), "Size should count copies.");
+        assertEquals(2, heap.runs(), "Each insert should be one entry.");
+        assertEquals(5L, heap.minLong(), "Smallest key should be 5.");
+        assertEquals(1_000_000L, heap.minCount(), "All copies of 5 should be counted.");
+    }
+
+    @Test
+    void duplicateInserts_coalescedAtTheTop() {
+        RunLengthLongHeap heap = newHeap();
+        heap.insertLong(8L);
+        heap.insertLong(3L);
+        heap.insertLong(8L);
+        heap.insertLong(8L);
+        heap.insertLong(3L);
+
+        assertEquals(3L, heap.minLong(), "Smallest key should be 3.");
+        assertEquals(2L, heap.minCount(), "Both copies of 3 should be folded together.");
+        heap.removeMin(2L);
+        assertEquals(8L, heap.minLong(), "8 should be next.");
+        assertEquals(3L, heap.minCount(), "All three separate copies of 8 should be folded together.");
+        assertEquals(1, heap.runs(), "Folding should leave one entry.");
+    }
+
+    @Test
+    void removeMin_takesFromCount() {
+        RunLengthLongHeap heap = newHeap();
+        heap.insert(4L, 10L);
+        heap.insert(6L, 1L);
+
+        heap.removeMin(7L);
+        assertEquals(4L, heap.minLong(), "Three copies of 4 should remain.");
+        assertEquals(3L, heap.minCount(), "removeMin should subtract from the count.");
+        heap.removeMin(3L);
+        assertEquals(6L, heap.minLong(), "Removing the last copies should expose the next key.");
+        assertEquals(1L, heap.sizeLong(), "One copy should remain.");
+    }
+
+    @Test
+    void removeMin_moreThanAvailable_throws() {
+        RunLengthLongHeap heap = newHeap();
+        heap.insert(4L, 2L);
+        heap.insert(5L, 2L);
+        assertThrows(IllegalArgumentException.class, () -> heap.removeMin(3L),
+                "Removing more copies than the minimum has should throw.");
+        assertThrows(IllegalArgumentException.class, () -> heap.removeMin(0L),
+                "Removing zero copies should throw.");
+        assertEquals(4L, heap.sizeLong(), "Rejected removals should not change the heap.");
+    }
+
+    @Test
+    void insert_badCount_throws() {
+        RunLengthLongHeap heap = newHeap();
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(1L, 0L),
+                "A count below 1 should throw.");
+        assertTrue(heap.isEmpty(), "Rejected inserts should not change the heap.");
+    }
+
+    // ========== Bulk Construction ==========
+
+    @Test
+    void arrayConstructor_collapsesDuplicates() {
+        long[] src = new long[10000];
+        for (int i = 0; i < src.length; i++) {
+            src[i] = i % 7;
+        }
+        RunLengthLongHeap heap = new RunLengthLongHeap(src);
+
+        assertEquals(10000L, heap.sizeLong(), "Size should count every copy.");
+        assertEquals(7, heap.runs(), "Each distinct key should be one entry.");
+        for (long key = 0; key < 7; key++) {
+            assertEquals(key, heap.minLong(), "Keys should come out in order.");
+            long expected = key < 10000 % 7 ? 1429L : 1428L;
+            assertEquals(expected, heap.minCount(), "Count of " + key + " should match the input.");
+            heap.removeMin(expected);
+        }
+        assertTrue(heap.isEmpty(), "Heap should be empty after removing every run.");
+        assertEquals(0L, src[0], "Source array should not be modified.");
+        assertEquals(6L, src[6], "Source array should not be modified.");
+    }
+
+    // ========== Randomized ==========
+
+    @Test
+    void randomOperations_matchSortedModel() {
+        RunLengthLongHeap heap = newHeap();
+        ArrayList<Long> model = new ArrayList<>();
+        Random rand = new Random(12345);
+        for (int i = 0; i < 20000; i++) {
+            int op = rand.nextInt(4);
+            if (model.isEmpty() || op == 0) {
+                long val = rand.nextInt(50);
+                int count = 1 + rand.nextInt(3);
+                heap.insert(val, count);
+                for (int c = 0; c < count; c++) model.add(val);
+            } else if (op == 1) {
+                Collections.sort(model);
+                long expected = model.get(0);
+                long copies = 0;
+                while (copies < model.size() && model.get((int) copies) == expected) copies++;
+                assertEquals(expected, heap.minLong(), "min should match the model at step " + i + ".");
+                assertEquals(copies, heap.minCount(), "minCount should match the model at step " + i + ".");
+            } else {
+                Collections.sort(model);
+                assertEquals(model.remove(0), heap.delMinLong(), "delMin should match the model at step " + i + ".");
+            }
+            assertEquals(model.size(), heap.sizeLong(), "Size should match the model.");
+        }
+    }
+
+    // ========== Edge Cases ==========
+
+    @Test
+    void emptyHeap_throwsNoSuchElementException() {
+        RunLengthLongHeap heap = newHeap();
+        assertThrows(NoSuchElementException.class, () -> heap.min(),
+                "min() on empty heap should throw NoSuchElementException.");
+        assertThrows(NoSuchElementException.class, () -> heap.delMin(),
+                "delMin() on empty heap should throw NoSuchElementException.");
+        assertThrows(NoSuchElementException.class, () -> heap.minCount(),
+                "minCount() on empty heap should throw NoSuchElementException.");
+        assertThrows(NoSuchElementException.class, () -> heap.removeMin(1L),
+                "removeMin() on empty heap should throw NoSuchElementException.");
+    }
+
+    @Test
+    void clear_allowsReuse() {
+        RunLengthLongHeap heap = newHeap();
+        heap.insert(3L, 100L);
+        heap.insertLong(1L);
+        heap.clear();
+        assertTrue(heap.isEmpty(), "Heap should be empty after clear.");
+        assertEquals(0, heap.runs(), "No entries should remain after clear.");
+
+        heap.insertLong(5L);
+        assertEquals(5L, heap.minLong(), "Heap should work after clear.");
+    }
+}
@@ -0,0 +1,89 @@
+import com.student_work.SegmentedLongMinHeap;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class SegmentedLongMinHeapTest {
+
+    // Helper: create a new empty heap
+    private SegmentedLongMinHeap newHeap() {
+        return new SegmentedLongMinHeap();
+    }
+
+    @Test
+    void insertAndDelMin_returnsSortedOrder() {
+        SegmentedLongMinHeap heap = newHeap();
+        long[] values = {50L, 30L, 70L, 10L, 40L, 60L, 80L, 20L};
+        for (long val : values) {
+            heap.insert(val);
+        }
+
+        long[] expected = {10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], heap.delMin(),
+                    "Element at position " + i + " should be " + expected[i]);
+        }
+    }
+
+    @Test
+    void emptyHeap_throwsNoSuchElementException() {
+        SegmentedLongMinHeap heap = newHeap();
+        assertThrows(NoSuchElementException.class, () -> heap.min(),
+                "min() on empty heap should throw NoSuchElementException.");
+        assertThrows(NoSuchElementException.class, () -> heap.delMin(),
+                "delMin() on empty heap should throw NoSuchElementException.");
+    }
+
+    @Test
+    void growAndShrinkAcrossSegments_keepsOrder() {
+        SegmentedLongMinHeap heap = new SegmentedLongMinHeap(0);
+        Random rand = new Random(12345);
+        ArrayList<Long> values = new ArrayList<>();
+
+        // several segments' worth of keys, then drain through every boundary
+        for (int i = 0; i < 20000; i++) {
+            long val = rand.nextLong();
+            values.add(val);
+            heap.insertLong(val);
+        }
+        Collections.sort(values);
+
+        assertEquals(values.size(), heap.size(), "Size should count every key.");
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(values.get(i), heap.delMinLong(),
+                    "Element at position " + i + " should match sorted order.");
+        }
+        assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+    }
+
+    @Test
+    void alternatingAtSegmentBoundary_maintainsCorrectState() {
+        SegmentedLongMinHeap heap = newHeap();
+        for (long i = 4095; i >= 1; i--) {
+            heap.insertLong(i);
+        }
+        for (int round = 0; round < 10; round++) {
+            heap.insertLong(0L);
+            assertEquals(0L, heap.delMinLong(), "Boundary insert/delMin should round-trip.");
+        }
+        assertEquals(1L, heap.minLong(), "Original minimum should be intact.");
+    }
+
+    @Test
+    void clear_allowsReuse() {
+        SegmentedLongMinHeap heap = newHeap();
+        for (long i = 10000; i > 0; i--) {
+            heap.insertLong(i);
+        }
+        heap.clear();
+        assertTrue(heap.isEmpty(), "Heap should be empty after clear.");
+
+        heap.insertLong(5L);
+        heap.insertLong(3L);
+        assertEquals(3L, heap.minLong(), "Heap should work after clear.");
+    }
+}
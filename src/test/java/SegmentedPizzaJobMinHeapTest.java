@@ -0,0 +1,75 @@
+import com.student_work.PizzaJob;
+import com.student_work.SegmentedPizzaJobMinHeap;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+
+public class SegmentedPizzaJobMinHeapTest {
+
+    // Helper: create a new empty heap
+    private SegmentedPizzaJobMinHeap newHeap() {
+        return new SegmentedPizzaJobMinHeap();
+    }
+
+    @Test
+    void insertAndDelMin_returnsJobsInCookTimeOrder() {
+        SegmentedPizzaJobMinHeap heap = newHeap();
+        long[] cookTimes = {50, 30, 70, 10, 40, 60, 80, 20};
+        for (int i = 0; i < cookTimes.length; i++) {
+            heap.insert(new PizzaJob(i, cookTimes[i]));
+        }
+
+        long[] expected = {10, 20, 30, 40, 50, 60, 70, 80};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], heap.delMin().getCookTime(),
+                    "Job at position " + i + " should have cook time " + expected[i]);
+        }
+    }
+
+    @Test
+    void emptyHeap_throwsIllegalStateException() {
+        SegmentedPizzaJobMinHeap heap = newHeap();
+        assertThrows(IllegalStateException.class, () -> heap.min(),
+                "min() on empty heap should throw IllegalStateException.");
+        assertThrows(IllegalStateException.class, () -> heap.delMin(),
+                "delMin() on empty heap should throw IllegalStateException.");
+    }
+
+    @Test
+    void growAndShrinkAcrossSegments_keepsOrder() {
+        SegmentedPizzaJobMinHeap heap = new SegmentedPizzaJobMinHeap(0);
+        Random rand = new Random(12345);
+        ArrayList<Long> cookTimes = new ArrayList<>();
+
+        for (int i = 0; i < 20000; i++) {
+            long cookTime = rand.nextInt(1000000);
+            cookTimes.add(cookTime);
+            heap.insert(new PizzaJob(i, cookTime));
+        }
+        Collections.sort(cookTimes);
+
+        assertEquals(cookTimes.size(), heap.size(), "Size should count every job.");
+        for (int i = 0; i < cookTimes.size(); i++) {
+            assertEquals(cookTimes.get(i), heap.delMin().getCookTime(),
+                    "Job at position " + i + " should match sorted cook time order.");
+        }
+        assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+    }
+
+    @Test
+    void clear_allowsReuse() {
+        SegmentedPizzaJobMinHeap heap = newHeap();
+        for (long i = 10000; i > 0; i--) {
+            heap.insert(new PizzaJob(i, i));
+        }
+        heap.clear();
+        assertTrue(heap.isEmpty(), "Heap should be empty after clear.");
+
+        heap.insert(new PizzaJob(1, 5));
+        heap.insert(new PizzaJob(2, 3));
+        assertEquals(3, heap.min().getCookTime(), "Heap should work after clear.");
+    }
+}
@@ -0,0 +1,140 @@
+import com.student_work.LongMinHeap;
+import com.student_work.PizzaJob;
+import com.student_work.PizzaJobMinHeap;
+import com.student_work.SeqlockMinHeap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SeqlockMinHeapTest {
+
+    // Helper: create a new empty wrapper around a LongMinHeap
+    private SeqlockMinHeap<Long> newHeap() {
+        return new SeqlockMinHeap<>(new LongMinHeap(), Long::longValue);
+    }
+
+    @Test
+    void insertAndDelMin_returnElementsInOrder() {
+        SeqlockMinHeap<Long> heap = newHeap();
+        long[] values = {50, 30, 70, 10, 40, 60, 80, 20};
+        for (long v : values) {
+            heap.insert(v);
+        }
+        assertEquals(8, heap.size(), "Size should count every insert.");
+        assertEquals(10L, heap.min(), "min should be the smallest element.");
+        assertEquals(10L, heap.minKey(), "minKey should be the smallest key.");
+
+        long[] expected = {10, 20, 30, 40, 50, 60, 70, 80};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], heap.delMin(), "Element at position " + i + " should be " + expected[i]);
+        }
+        assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+        assertEquals(SeqlockMinHeap.EMPTY_KEY, heap.minKey(), "An empty heap should report EMPTY_KEY.");
+    }
+
+    @Test
+    void counters_trackInsertsAndDeletes() {
+        SeqlockMinHeap<Long> heap = newHeap();
+        for (long i = 0; i < 10; i++) {
+            heap.insert(i);
+        }
+        heap.delMin();
+        heap.delMin();
+        assertEquals(10, heap.insertCount(), "insertCount should count every insert.");
+        assertEquals(2, heap.deleteCount(), "deleteCount should count every delMin.");
+
+        heap.clear();
+        assertEquals(10, heap.deleteCount(), "clear should count the elements it removed.");
+        assertTrue(heap.isEmpty(), "Heap should be empty after clear.");
+    }
+
+    @Test
+    void snapshot_matchesIndividualReads() {
+        SeqlockMinHeap<PizzaJob> heap = new SeqlockMinHeap<>(new PizzaJobMinHeap(), PizzaJob::getCookTime);
+        heap.insert(new PizzaJob(0, 9));
+        heap.insert(new PizzaJob(1, 3));
+        heap.insert(new PizzaJob(2, 6));
+
+        SeqlockMinHeap.Snapshot<PizzaJob> snap = heap.snapshot();
+        assertEquals(3, snap.size(), "Snapshot size should match.");
+        assertEquals(3, snap.minKey(), "Snapshot minKey should be the shortest cook time.");
+        assertEquals(1, snap.min().getArrivalTime(), "Snapshot min should be the shortest job.");
+        assertEquals(3, snap.inserts(), "Snapshot should count inserts.");
+        assertEquals(0, snap.deletes(), "Snapshot should count deletes.");
+    }
+
+    // ========== Concurrency ==========
+
+    @Test
+    @Timeout(30)
+    void readers_seeOnlyConsistentSnapshots() throws InterruptedException {
+        // the writer keeps size == inserts - deletes and min == minKey; a torn read would break either
+        SeqlockMinHeap<Long> heap = newHeap();
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread[] readers = new Thread[3];
+        for (int r = 0; r < readers.length; r++) {
+            readers[r] = new Thread(() -> {
+                while (!done.get() && failure.get() == null) {
+                    SeqlockMinHeap.Snapshot<Long> snap = heap.snapshot();
+                    if (snap.size() != snap.inserts() - snap.deletes()) {
+                        failure.set("size " + snap.size() + " != " + snap.inserts() + " - " + snap.deletes());
+                    } else if (snap.size() == 0 ? snap.min() != null || snap.minKey() != SeqlockMinHeap.EMPTY_KEY
+                                                : snap.min() != snap.minKey()) {
+                        failure.set("min " + snap.min() + " does not match key " + snap.minKey());
+                    }
+                }
+            });
+            readers[r].start();
+        }
+
+        Random rand = new Random(12345);
+        for (int i = 0; i < 200000; i++) {
+            if (heap.isEmpty() || rand.nextInt(3) < 2) {
+                heap.insert((long) rand.nextInt(1000000));
+            } else {
+                heap.delMin();
+            }
+        }
+        done.set(true);
+        for (Thread r : readers) r.join();
+        assertNull(failure.get(), "Readers should never see a torn snapshot: " + failure.get());
+    }
+
+    // ========== Edge Cases ==========
+
+    @Test
+    void emptyHeap_throwsNoSuchElementException() {
+        SeqlockMinHeap<Long> longs = newHeap();
+        assertThrows(NoSuchElementException.class, () -> longs.min(),
+                "min() on an empty LongMinHeap should throw NoSuchElementException.");
+        assertThrows(NoSuchElementException.class, () -> longs.delMin(),
+                "delMin() on an empty LongMinHeap should throw NoSuchElementException.");
+
+        // the same exception whatever the wrapped heap throws
+        SeqlockMinHeap<PizzaJob> jobs = new SeqlockMinHeap<>(new PizzaJobMinHeap(), PizzaJob::getCookTime);
+        assertThrows(NoSuchElementException.class, () -> jobs.min(),
+                "min() on an empty PizzaJobMinHeap should throw NoSuchElementException.");
+        assertThrows(NoSuchElementException.class, () -> jobs.delMin(),
+                "delMin() on an empty PizzaJobMinHeap should throw NoSuchElementException.");
+        assertEquals(0, jobs.deleteCount(), "A failed delMin should not be counted.");
+    }
+
+    @Test
+    void badArguments_throw() {
+        assertThrows(IllegalArgumentException.class, () -> new SeqlockMinHeap<Long>(null, Long::longValue),
+                "A null heap should throw.");
+        assertThrows(IllegalArgumentException.class, () -> new SeqlockMinHeap<>(new LongMinHeap(), null),
+                "A null key function should throw.");
+        LongMinHeap full = new LongMinHeap();
+        full.insert(1L);
+        assertThrows(IllegalArgumentException.class, () -> new SeqlockMinHeap<>(full, Long::longValue),
+                "A non-empty heap should throw.");
+        assertThrows(IllegalArgumentException.class, () -> newHeap().insert(null), "Inserting null should throw.");
+    }
+}
@@ -0,0 +1,146 @@
+import com.student_work.PizzaJob;
+import com.student_work.SoftHeap;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+
+public class SoftHeapTest {
+
+    // Helper: create a new empty soft heap of longs
+    private SoftHeap<Long> newHeap(double epsilon) {
+        return new SoftHeap<>(Long::longValue, epsilon);
+    }
+
+    @Test
+    void smallHeap_isExact() {
+        // with epsilon = 0.01 no node of rank <= 12 is corrupted, so 5000 elements come out sorted
+        SoftHeap<Long> heap = newHeap(0.01);
+        Random rand = new Random(12345);
+        List<Long> inserted = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            long val = rand.nextInt(100000);
+            heap.insert(val);
+            inserted.add(val);
+        }
+        Collections.sort(inserted);
+        for (int i = 0; i < inserted.size(); i++) {
+            assertEquals(inserted.get(i), heap.delMin(), "Element at position " + i + " should match sorted order.");
+        }
+        assertEquals(0, heap.corrupted(), "Nothing should have been corrupted.");
+        assertTrue(heap.isEmpty(), "Heap should be empty after draining.");
+    }
+
+    @Test
+    void pizzaJobs_byCookTime() {
+        SoftHeap<PizzaJob> heap = new SoftHeap<>(PizzaJob::getCookTime);
+        heap.insert(new PizzaJob(0, 9));
+        heap.insert(new PizzaJob(1, 3));
+        heap.insert(new PizzaJob(2, 6));
+        assertEquals(3, heap.min().getCookTime(), "min should be the shortest job.");
+        assertEquals(3, heap.minKey(), "minKey should be its cook time.");
+        assertEquals(3, heap.delMin().getCookTime(), "delMin should remove the shortest job.");
+        assertEquals(2, heap.size(), "Size should drop by one.");
+    }
+
+    // ========== Corruption ==========
+
+    @Test
+    void mixedOperations_stayWithinTheErrorBound() {
+        // rank error = how many queued elements are smaller than the one returned
+        double epsilon = 0.1;
+        SoftHeap<Long> heap = newHeap(epsilon);
+        TreeMap<Long, Integer> remaining = new TreeMap<>();
+        Random rand = new Random(12345);
+        long inserts = 0;
+        long worstCorrupted = 0;
+        for (int i = 0; i < 200000; i++) {
+            if (heap.isEmpty() || rand.nextInt(3) < 2) {
+                long val = rand.nextInt(1000000);
+                heap.insert(val);
+                remaining.merge(val, 1, Integer::sum);
+                inserts++;
+            } else {
+                long corrupted = heap.corrupted();
+                long key = heap.minKey();
+                long val = heap.delMin();
+                assertTrue(val <= key, "An element's key should never exceed its current key.");
+                int rank = remaining.headMap(val).size();
+                assertTrue(rank <= corrupted,
+                        "Rank error " + rank + " should not exceed the corrupted count " + corrupted + ".");
+                remaining.merge(val, -1, (a, b) -> a + b == 0 ? null : a + b);
+            }
+            assertTrue(heap.corrupted() <= heap.corruptionBound(),
+                    "Corrupted elements should stay within epsilon * inserts at step " + i + ".");
+            worstCorrupted = Math.max(worstCorrupted, heap.corrupted());
+        }
+        assertEquals(remaining.values().stream().mapToInt(Integer::intValue).sum(), heap.size(),
+                "Size should match the model.");
+        assertEquals((long) (epsilon * inserts), heap.corruptionBound(), "The bound should be epsilon * inserts.");
+        assertTrue(worstCorrupted > 0, "A run this long should corrupt something.");
+    }
+
+    @Test
+    void drain_returnsEveryElementOnce() {
+        SoftHeap<Long> heap = newHeap(0.5);
+        List<Long> inserted = new ArrayList<>();
+        Random rand = new Random(12345);
+        for (int i = 0; i < 50000; i++) {
+            long val = rand.nextLong();
+            heap.insert(val);
+            inserted.add(val);
+        }
+        List<Long> removed = new ArrayList<>();
+        while (!heap.isEmpty()) {
+            removed.add(heap.delMin());
+        }
+        Collections.sort(inserted);
+        Collections.sort(removed);
+        assertEquals(inserted, removed, "Every inserted element should come out exactly once.");
+        assertEquals(0, heap.corrupted(), "No corrupted element should remain in an empty heap.");
+    }
+
+    // ========== Edge Cases ==========
+
+    @Test
+    void emptyHeap_throwsNoSuchElementException() {
+        SoftHeap<Long> heap = newHeap(0.1);
+        assertThrows(NoSuchElementException.class, () -> heap.min(),
+                "min() on empty heap should throw NoSuchElementException.");
+        assertThrows(NoSuchElementException.class, () -> heap.minKey(),
+                "minKey() on empty heap should throw NoSuchElementException.");
+        assertThrows(NoSuchElementException.class, () -> heap.delMin(),
+                "delMin() on empty heap should throw NoSuchElementException.");
+    }
+
+    @Test
+    void badArguments_throw() {
+        assertThrows(IllegalArgumentException.class, () -> newHeap(0), "Zero epsilon should throw.");
+        assertThrows(IllegalArgumentException.class, () -> newHeap(0.6), "Epsilon above 1/2 should throw.");
+        assertThrows(IllegalArgumentException.class, () -> newHeap(Double.NaN), "NaN epsilon should throw.");
+        assertThrows(IllegalArgumentException.class, () -> new SoftHeap<Long>(null, 0.1),
+                "A null key function should throw.");
+        assertThrows(IllegalArgumentException.class, () -> newHeap(0.1).insert(null),
+                "Inserting null should throw.");
+    }
+
+    @Test
+    void clear_resetsCounters() {
+        SoftHeap<Long> heap = newHeap(0.5);
+        for (long i = 0; i < 10000; i++) {
+            heap.insert(i);
+        }
+        heap.clear();
+        assertTrue(heap.isEmpty(), "Heap should be empty after clear.");
+        assertEquals(0, heap.corruptionBound(), "clear should reset the insert count.");
+        assertEquals(0, heap.corrupted(), "clear should reset the corrupted count.");
+
+        heap.insert(7L);
+        assertEquals(7L, heap.delMin(), "Heap should work after clear.");
+    }
+}